@@ -0,0 +1,74 @@
+package nextstep.subway.applicaion;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 관측한 지연 시간으로 동시 실행 한도를 조절하는 AIMD 리미터.
+ * 지연이 기준 이내로 끝나면 한도를 1/limit 씩 늘려 한도만큼 처리될 때마다 약 1 증가하고,
+ * 기준을 넘기거나 시간 초과, 거절이 나면 한도를 backoffRatio 배로 줄인다.
+ * 한 번 줄인 뒤에는 그때 실행 중이던 요청 수만큼 반납될 때까지 다시 줄이지 않는다.
+ * 같은 과부하를 함께 겪은 요청들이 차례로 반납하며 한도를 거듭 깎아 최소치로 무너뜨리지 않게 하기 위해서다.
+ * 한도를 절반도 쓰지 않는 한가한 동안에는 늘리지 않아 한도가 근거 없이 커지지 않는다.
+ */
+@Component
+public class AdaptiveConcurrencyLimiter {
+    private int minLimit;
+    private int maxLimit;
+    private long latencyThresholdNanos;
+    private double backoffRatio;
+
+    private double limit;
+    private int inFlight;
+    private int releasesUntilNextBackoff;
+
+    public AdaptiveConcurrencyLimiter(@Value("${subway.path.limiter.initial-limit:8}") int initialLimit,
+                                      @Value("${subway.path.limiter.min-limit:1}") int minLimit,
+                                      @Value("${subway.path.limiter.max-limit:64}") int maxLimit,
+                                      @Value("${subway.path.limiter.latency-threshold-millis:500}") long latencyThresholdMillis,
+                                      @Value("${subway.path.limiter.backoff-ratio:0.9}") double backoffRatio) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThresholdMillis * 1_000_000;
+        this.backoffRatio = backoffRatio;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    public synchronized boolean tryAcquire() {
+        if (inFlight >= (int) limit) {
+            return false;
+        }
+        inFlight++;
+        return true;
+    }
+
+    /**
+     * @param latencyNanos 허가를 받은 때부터 끝날 때까지 걸린 시간. 큐에서 기다린 시간을 포함한다.
+     * @param dropped 시간 초과나 거절처럼 과부하로 끝났는지 여부
+     */
+    public synchronized void release(long latencyNanos, boolean dropped) {
+        int used = inFlight--;
+        boolean sameGeneration = releasesUntilNextBackoff > 0;
+        if (sameGeneration) {
+            releasesUntilNextBackoff--;
+        }
+        if (dropped || latencyNanos > latencyThresholdNanos) {
+            if (!sameGeneration) {
+                limit = Math.max(minLimit, limit * backoffRatio);
+                releasesUntilNextBackoff = inFlight;
+            }
+            return;
+        }
+        if (used * 2 >= (int) limit) {
+            limit = Math.min(maxLimit, limit + 1.0 / limit);
+        }
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+}
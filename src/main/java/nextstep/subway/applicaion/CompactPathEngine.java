@@ -0,0 +1,28 @@
+package nextstep.subway.applicaion;
+
+import nextstep.subway.domain.Path;
+import nextstep.subway.domain.PathEngine;
+import nextstep.subway.domain.PathFinder;
+import nextstep.subway.domain.PathType;
+import nextstep.subway.domain.SubwayGraph;
+
+/**
+ * 압축 그래프 위의 PathFinder 로 경로를 찾는 기본 엔진.
+ */
+public class CompactPathEngine implements PathEngine {
+    private final FinderCache<PathFinder> pathFinders = new FinderCache<>("pathFinder", PathFinder::new);
+
+    @Override
+    public Path findShortestPath(SubwayGraph graph, long sourceStationId, long targetStationId, PathType type) {
+        return finder(graph).findShortestPath(sourceStationId, targetStationId, type);
+    }
+
+    @Override
+    public int getSettledCount(SubwayGraph graph) {
+        return finder(graph).getSettledCount();
+    }
+
+    PathFinder finder(SubwayGraph graph) {
+        return pathFinders.get(graph);
+    }
+}
@@ -0,0 +1,41 @@
+package nextstep.subway.applicaion;
+
+import nextstep.subway.applicaion.jfr.CacheLoadEvent;
+import nextstep.subway.domain.SubwayGraph;
+
+import java.util.function.Function;
+
+/**
+ * 검색기는 그래프 크기만큼의 작업 배열을 가지므로 스레드마다 하나씩 두고 같은 그래프 버전에서는 재사용한다.
+ */
+class FinderCache<T> {
+    private final String name;
+    private final Function<SubwayGraph, T> factory;
+    private final ThreadLocal<Entry<T>> entries = new ThreadLocal<>();
+
+    FinderCache(String name, Function<SubwayGraph, T> factory) {
+        this.name = name;
+        this.factory = factory;
+    }
+
+    T get(SubwayGraph graph) {
+        Entry<T> entry = entries.get();
+        if (entry == null || entry.graph != graph) {
+            CacheLoadEvent event = CacheLoadEvent.start(name, Thread.currentThread().getName());
+            entry = new Entry<>(graph, factory.apply(graph));
+            event.finish(graph.getVersion(), -1);
+            entries.set(entry);
+        }
+        return entry.finder;
+    }
+
+    private static class Entry<T> {
+        private final SubwayGraph graph;
+        private final T finder;
+
+        private Entry(SubwayGraph graph, T finder) {
+            this.graph = graph;
+            this.finder = finder;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package nextstep.subway.applicaion;
+
+import nextstep.subway.domain.PathType;
+import nextstep.subway.domain.SubwayGraph;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Random;
+
+@Component
+public class GraphWarmUp {
+    private static final Logger log = LoggerFactory.getLogger(GraphWarmUp.class);
+
+    private SubwayGraphService subwayGraphService;
+    private PathService pathService;
+    private PathSearchExecutor pathSearchExecutor;
+    private LineService lineService;
+    private boolean enabled;
+    private int queries;
+    private long seed;
+
+    public GraphWarmUp(SubwayGraphService subwayGraphService, PathService pathService,
+                       PathSearchExecutor pathSearchExecutor, LineService lineService,
+                       @Value("${subway.warm-up.enabled:true}") boolean enabled,
+                       @Value("${subway.warm-up.queries:500}") int queries,
+                       @Value("${subway.warm-up.seed:0}") long seed) {
+        this.subwayGraphService = subwayGraphService;
+        this.pathService = pathService;
+        this.pathSearchExecutor = pathSearchExecutor;
+        this.lineService = lineService;
+        this.enabled = enabled;
+        this.queries = queries;
+        this.seed = seed;
+    }
+
+    /**
+     * ApplicationReadyEvent 리스너가 모두 끝난 뒤에 ACCEPTING_TRAFFIC 이 발행되므로
+     * 워밍업이 끝날 때까지 readiness 는 REFUSING_TRAFFIC 으로 유지된다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp(ApplicationReadyEvent event) {
+        if (!enabled) {
+            return;
+        }
+        AvailabilityChangeEvent.publish(event.getApplicationContext(), ReadinessState.REFUSING_TRAFFIC);
+
+        long startedAt = System.nanoTime();
+        try {
+            lineService.showLines();
+            SubwayGraph graph = subwayGraphService.getGraph();
+            int executed = runSyntheticQueries(graph);
+            log.info("graph warm-up finished: stations={}, sections={}, queries={}, elapsed={}ms",
+                    graph.stationCount(), graph.sectionCount(), executed, (System.nanoTime() - startedAt) / 1_000_000);
+        } catch (RuntimeException e) {
+            log.warn("graph warm-up failed", e);
+        }
+    }
+
+    /**
+     * 검색기 캐시가 스레드마다 있으므로 실제 검색을 맡을 경로 검색 스레드마다 같은 질의를 돌린다.
+     */
+    private int runSyntheticQueries(SubwayGraph graph) {
+        if (graph.stationCount() < 2) {
+            return 0;
+        }
+
+        pathSearchExecutor.runOnEachThread(() -> runQueries(graph, new Random(seed)));
+        return queries * pathSearchExecutor.getPoolSize();
+    }
+
+    private void runQueries(SubwayGraph graph, Random random) {
+        for (int i = 0; i < queries; i++) {
+            long source = graph.stationId(random.nextInt(graph.stationCount()));
+            long target = graph.stationId(random.nextInt(graph.stationCount()));
+            try {
+                pathService.warmUp(source, target, i % 2 == 0 ? PathType.DISTANCE : PathType.TRANSFER);
+            } catch (IllegalArgumentException ignored) {
+                // 같은 역이거나 연결되지 않은 역 쌍도 워밍업 대상 코드 경로다.
+            }
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package nextstep.subway.applicaion;
+
+import nextstep.subway.domain.Path;
+import nextstep.subway.domain.PathEngine;
+import nextstep.subway.domain.PathType;
+import nextstep.subway.domain.SubwayGraph;
+import org.jgrapht.GraphPath;
+import org.jgrapht.alg.shortestpath.DijkstraShortestPath;
+import org.jgrapht.graph.DefaultWeightedEdge;
+import org.jgrapht.graph.WeightedMultigraph;
+
+import java.util.List;
+
+/**
+ * JGraphT 의 Dijkstra 로 경로를 찾는 기준 구현. 역 번호를 정점으로, 구간 번호를 간선으로 갖는 그래프를
+ * 지하철 그래프 버전과 기준마다 한 번 만들어 여러 스레드가 함께 쓴다.
+ */
+public class JgraphtPathEngine implements PathEngine {
+    private volatile Snapshot snapshot;
+
+    @Override
+    public Path findShortestPath(SubwayGraph graph, long sourceStationId, long targetStationId, PathType type) {
+        if (sourceStationId == targetStationId) {
+            throw new IllegalArgumentException("출발역과 도착역이 같습니다.");
+        }
+        int source = findStation(graph, sourceStationId);
+        int target = findStation(graph, targetStationId);
+
+        GraphPath<Integer, SectionEdge> found = new DijkstraShortestPath<>(multigraph(graph, type)).getPath(source, target);
+        if (found == null || found.getEdgeList().isEmpty()) {
+            throw new IllegalArgumentException("출발역과 도착역이 연결되어 있지 않습니다.");
+        }
+        return createPath(graph, found);
+    }
+
+    private static int findStation(SubwayGraph graph, long stationId) {
+        int station = graph.findStationIndex(stationId);
+        if (station < 0) {
+            throw new IllegalArgumentException("존재하지 않는 역입니다: " + stationId);
+        }
+        return station;
+    }
+
+    private WeightedMultigraph<Integer, SectionEdge> multigraph(SubwayGraph graph, PathType type) {
+        Snapshot current = snapshot;
+        if (current == null || current.graph != graph) {
+            current = replaceSnapshot(graph);
+        }
+        return current.get(type);
+    }
+
+    private synchronized Snapshot replaceSnapshot(SubwayGraph graph) {
+        Snapshot current = snapshot;
+        if (current == null || current.graph != graph) {
+            current = new Snapshot(graph);
+            snapshot = current;
+        }
+        return current;
+    }
+
+    private static Path createPath(SubwayGraph graph, GraphPath<Integer, SectionEdge> found) {
+        List<Integer> vertices = found.getVertexList();
+        List<SectionEdge> edges = found.getEdgeList();
+        int[] stations = new int[vertices.size()];
+        int[] sections = new int[edges.size()];
+        int distance = 0;
+        int duration = 0;
+        for (int i = 0; i < stations.length; i++) {
+            stations[i] = vertices.get(i);
+        }
+        for (int i = 0; i < sections.length; i++) {
+            sections[i] = edges.get(i).section;
+            distance += graph.sectionDistance(sections[i]);
+            duration += graph.sectionDuration(sections[i]);
+        }
+        return new Path(stations, sections, distance, duration);
+    }
+
+    private static class Snapshot {
+        private final SubwayGraph graph;
+        private final WeightedMultigraph<Integer, SectionEdge>[] multigraphs;
+
+        @SuppressWarnings("unchecked")
+        private Snapshot(SubwayGraph graph) {
+            this.graph = graph;
+            this.multigraphs = new WeightedMultigraph[PathType.values().length];
+        }
+
+        private synchronized WeightedMultigraph<Integer, SectionEdge> get(PathType type) {
+            WeightedMultigraph<Integer, SectionEdge> multigraph = multigraphs[type.ordinal()];
+            if (multigraph == null) {
+                multigraph = build(type);
+                multigraphs[type.ordinal()] = multigraph;
+            }
+            return multigraph;
+        }
+
+        private WeightedMultigraph<Integer, SectionEdge> build(PathType type) {
+            WeightedMultigraph<Integer, SectionEdge> multigraph = new WeightedMultigraph<>(SectionEdge.class);
+            for (int station = 0; station < graph.stationCount(); station++) {
+                multigraph.addVertex(station);
+            }
+            for (int section = 0; section < graph.sectionCount(); section++) {
+                SectionEdge edge = new SectionEdge(section);
+                multigraph.addEdge(graph.sectionUpStation(section), graph.sectionDownStation(section), edge);
+                multigraph.setEdgeWeight(edge, graph.sectionWeight(section, type));
+            }
+            return multigraph;
+        }
+    }
+
+    private static class SectionEdge extends DefaultWeightedEdge {
+        private final int section;
+
+        private SectionEdge(int section) {
+            this.section = section;
+        }
+    }
+}
@@ -1,46 +1,69 @@
 package nextstep.subway.applicaion;
 
+import nextstep.subway.applicaion.dto.LineListResponse;
 import nextstep.subway.applicaion.dto.LineRequest;
 import nextstep.subway.applicaion.dto.LineResponse;
 import nextstep.subway.applicaion.dto.SectionRequest;
+import nextstep.subway.applicaion.dto.StationListResponse;
 import nextstep.subway.applicaion.dto.StationResponse;
+import nextstep.subway.applicaion.jfr.LineMutationEvent;
 import nextstep.subway.domain.Line;
 import nextstep.subway.domain.LineRepository;
+import nextstep.subway.domain.NetworkChange;
 import nextstep.subway.domain.Section;
 import nextstep.subway.domain.Station;
+import nextstep.subway.domain.StationRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 @Transactional(readOnly = true)
 public class LineService {
     private LineRepository lineRepository;
+    private StationRepository stationRepository;
     private StationService stationService;
+    private NetworkChangeRecorder networkChangeRecorder;
+    private ApplicationEventPublisher eventPublisher;
 
-    public LineService(LineRepository lineRepository, StationService stationService) {
+    public LineService(LineRepository lineRepository, StationRepository stationRepository, StationService stationService,
+                       NetworkChangeRecorder networkChangeRecorder, ApplicationEventPublisher eventPublisher) {
         this.lineRepository = lineRepository;
+        this.stationRepository = stationRepository;
         this.stationService = stationService;
+        this.networkChangeRecorder = networkChangeRecorder;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
     public LineResponse saveLine(LineRequest request) {
-        Line line = lineRepository.save(new Line(request.getName(), request.getColor()));
+        LineMutationEvent event = LineMutationEvent.start("saveLine");
+        int surcharge = request.getSurcharge() != null ? request.getSurcharge() : 0;
+        Line line = lineRepository.save(new Line(request.getName(), request.getColor(), surcharge));
+        networkChangeRecorder.record(NetworkChange.lineAdded(line));
         if (request.getUpStationId() != null && request.getDownStationId() != null && request.getDistance() != 0) {
             Station upStation = stationService.findById(request.getUpStationId());
             Station downStation = stationService.findById(request.getDownStationId());
-            line.getSections().add(new Section(line, upStation, downStation, request.getDistance()));
+            Section section = new Section(line, upStation, downStation, request.getDistance(), request.getDuration());
+            line.getSections().add(section);
+            lineRepository.flush();
+            networkChangeRecorder.record(NetworkChange.sectionAdded(section));
         }
+        eventPublisher.publishEvent(new NetworkChangedEvent());
+        event.finish(line.getId(), line.getSections().size());
         return createLineResponse(line);
     }
 
-    public List<LineResponse> showLines() {
-        return lineRepository.findAll().stream()
-                .map(this::createLineResponse)
-                .collect(Collectors.toList());
+    public LineListResponse showLines() {
+        return createLineListResponse(lineRepository.findAllWithSections());
     }
 
     public LineResponse findById(Long id) {
@@ -49,6 +72,7 @@ public class LineService {
 
     @Transactional
     public void updateLine(Long id, LineRequest lineRequest) {
+        LineMutationEvent event = LineMutationEvent.start("updateLine");
         Line line = lineRepository.findById(id).orElseThrow(IllegalArgumentException::new);
 
         if (lineRequest.getName() != null) {
@@ -57,20 +81,111 @@ public class LineService {
         if (lineRequest.getColor() != null) {
             line.setColor(lineRequest.getColor());
         }
+        if (lineRequest.getSurcharge() != null) {
+            line.setSurcharge(lineRequest.getSurcharge());
+        }
+        networkChangeRecorder.record(NetworkChange.lineUpdated(line));
+        eventPublisher.publishEvent(new NetworkChangedEvent());
+        event.finish(id, 0);
     }
 
     @Transactional
     public void deleteLine(Long id) {
+        LineMutationEvent event = LineMutationEvent.start("deleteLine");
         lineRepository.deleteById(id);
+        networkChangeRecorder.record(NetworkChange.lineRemoved(id));
+        eventPublisher.publishEvent(new NetworkChangedEvent());
+        event.finish(id, 0);
     }
 
     @Transactional
     public void addSection(Long lineId, SectionRequest sectionRequest) {
-        Station upStation = stationService.findById(sectionRequest.getUpStationId());
-        Station downStation = stationService.findById(sectionRequest.getDownStationId());
+        LineMutationEvent event = LineMutationEvent.start("addSection");
         Line line = lineRepository.findById(lineId).orElseThrow(IllegalArgumentException::new);
 
-        line.getSections().add(new Section(line, upStation, downStation, sectionRequest.getDistance()));
+        Section section = createSection(line, sectionRequest, findStations(Collections.singletonList(sectionRequest)));
+        line.getSections().add(section);
+        lineRepository.flush();
+        networkChangeRecorder.record(NetworkChange.sectionAdded(section));
+        eventPublisher.publishEvent(new NetworkChangedEvent());
+        event.finish(lineId, 1);
+    }
+
+    /**
+     * 같은 노선에 추가할 구간을 한 트랜잭션에서 한 번의 flush 로 저장하고 변경 이벤트도 한 번만 발행한다.
+     * 없는 역이나 이미 있는 구간처럼 요청 하나만의 문제는 돌려주는 목록의 같은 위치에 예외로 담고,
+     * 저장한 요청의 위치는 null 로 둔다. 요청 검증은 쓰기 전에 트랜잭션 프록시를 거치지 않고 끝내므로
+     * 거부한 요청이 묶음 트랜잭션을 롤백 전용으로 만들지 않는다.
+     */
+    @Transactional
+    public List<IllegalArgumentException> addSections(Long lineId, List<SectionRequest> sectionRequests) {
+        LineMutationEvent event = LineMutationEvent.start("addSections");
+        Line line = lineRepository.findById(lineId).orElseThrow(IllegalArgumentException::new);
+
+        Map<Long, Station> stations = findStations(sectionRequests);
+        List<IllegalArgumentException> rejections = new ArrayList<>(sectionRequests.size());
+        List<Section> sections = new ArrayList<>(sectionRequests.size());
+        for (SectionRequest sectionRequest : sectionRequests) {
+            try {
+                Section section = createSection(line, sectionRequest, stations);
+                line.getSections().add(section);
+                sections.add(section);
+                rejections.add(null);
+            } catch (IllegalArgumentException e) {
+                rejections.add(e);
+            }
+        }
+        if (sections.isEmpty()) {
+            return rejections;
+        }
+
+        lineRepository.flush();
+        for (Section section : sections) {
+            networkChangeRecorder.record(NetworkChange.sectionAdded(section));
+        }
+        eventPublisher.publishEvent(new NetworkChangedEvent());
+        event.finish(lineId, sections.size());
+        return rejections;
+    }
+
+    private Section createSection(Line line, SectionRequest sectionRequest, Map<Long, Station> stations) {
+        Station upStation = findStation(stations, sectionRequest.getUpStationId());
+        Station downStation = findStation(stations, sectionRequest.getDownStationId());
+        for (Section section : line.getSections()) {
+            if (section.getUpStation().equals(upStation) && section.getDownStation().equals(downStation)) {
+                throw new IllegalArgumentException("이미 등록된 구간입니다.");
+            }
+        }
+        return new Section(line, upStation, downStation, sectionRequest.getDistance(), sectionRequest.getDuration());
+    }
+
+    /**
+     * StationService.findById 는 없는 역에서 예외를 던지며 트랜잭션 프록시를 지나므로 여기서는 저장소를 직접 쓴다.
+     */
+    private Map<Long, Station> findStations(List<SectionRequest> sectionRequests) {
+        Set<Long> ids = new HashSet<>();
+        for (SectionRequest sectionRequest : sectionRequests) {
+            if (sectionRequest.getUpStationId() != null) {
+                ids.add(sectionRequest.getUpStationId());
+            }
+            if (sectionRequest.getDownStationId() != null) {
+                ids.add(sectionRequest.getDownStationId());
+            }
+        }
+
+        Map<Long, Station> stations = new HashMap<>();
+        for (Station station : stationRepository.findAllById(ids)) {
+            stations.put(station.getId(), station);
+        }
+        return stations;
+    }
+
+    private static Station findStation(Map<Long, Station> stations, Long id) {
+        Station station = stations.get(id);
+        if (station == null) {
+            throw new IllegalArgumentException("존재하지 않는 역입니다: " + id);
+        }
+        return station;
     }
 
     private LineResponse createLineResponse(Line line) {
@@ -78,28 +193,65 @@ public class LineService {
                 line.getId(),
                 line.getName(),
                 line.getColor(),
+                line.getSurcharge(),
                 createStationResponses(line)
         );
     }
 
-    private List<StationResponse> createStationResponses(Line line) {
-        if (line.getSections().isEmpty()) {
-            return Collections.emptyList();
+    /**
+     * 구간의 역까지 트랜잭션 안에서 배열로 옮겨 담아 지연 로딩된 엔티티가 응답 직렬화로 새어 나가지 않게 한다.
+     */
+    private LineListResponse createLineListResponse(List<Line> lines) {
+        long[] ids = new long[lines.size()];
+        String[] names = new String[lines.size()];
+        String[] colors = new String[lines.size()];
+        int[] surcharges = new int[lines.size()];
+        int[] stationOffsets = new int[lines.size() + 1];
+        for (int i = 0; i < lines.size(); i++) {
+            List<Section> sections = lines.get(i).getSections();
+            stationOffsets[i + 1] = stationOffsets[i] + (sections.isEmpty() ? 0 : sections.size() + 1);
         }
 
-        List<Station> stations = line.getSections().stream()
-                .map(Section::getDownStation)
-                .collect(Collectors.toList());
+        long[] stationIds = new long[stationOffsets[lines.size()]];
+        String[] stationNames = new String[stationIds.length];
+        for (int i = 0; i < lines.size(); i++) {
+            Line line = lines.get(i);
+            ids[i] = line.getId();
+            names[i] = line.getName();
+            colors[i] = line.getColor();
+            surcharges[i] = line.getSurcharge();
+            List<Section> sections = line.getSections();
+            int offset = stationOffsets[i];
+            for (Section section : sections) {
+                if (offset == stationOffsets[i]) {
+                    stationIds[offset] = section.getUpStation().getId();
+                    stationNames[offset++] = section.getUpStation().getName();
+                }
+                stationIds[offset] = section.getDownStation().getId();
+                stationNames[offset++] = section.getDownStation().getName();
+            }
+        }
+        return new LineListResponse(ids, names, colors, surcharges, stationOffsets,
+                new StationListResponse(stationIds, stationNames));
+    }
 
-        stations.add(0, line.getSections().get(0).getUpStation());
+    private List<StationResponse> createStationResponses(Line line) {
+        List<Section> sections = line.getSections();
+        if (sections.isEmpty()) {
+            return Collections.emptyList();
+        }
 
-        return stations.stream()
-                .map(it -> stationService.createStationResponse(it))
-                .collect(Collectors.toList());
+        List<StationResponse> stations = new ArrayList<>(sections.size() + 1);
+        stations.add(stationService.createStationResponse(sections.get(0).getUpStation()));
+        for (Section section : sections) {
+            stations.add(stationService.createStationResponse(section.getDownStation()));
+        }
+        return stations;
     }
 
     @Transactional
     public void deleteSection(Long lineId, Long stationId) {
+        LineMutationEvent event = LineMutationEvent.start("deleteSection");
         Line line = lineRepository.findById(lineId).orElseThrow(IllegalArgumentException::new);
         Station station = stationService.findById(stationId);
 
@@ -107,6 +259,9 @@ public class LineService {
             throw new IllegalArgumentException();
         }
 
-        line.getSections().remove(line.getSections().size() - 1);
+        Section section = line.getSections().remove(line.getSections().size() - 1);
+        networkChangeRecorder.record(NetworkChange.sectionRemoved(section));
+        eventPublisher.publishEvent(new NetworkChangedEvent());
+        event.finish(lineId, 1);
     }
 }
@@ -0,0 +1,37 @@
+package nextstep.subway.applicaion;
+
+import nextstep.subway.domain.NetworkChangeRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 같은 데이터베이스를 쓰는 다른 인스턴스의 변경을 알아채기 위해 변경 로그의 마지막 순번을 주기적으로 확인한다.
+ * 순번이 앞서 있으면 메모리에 든 그래프와 인덱스가 각자 마지막으로 적용한 순번 이후의 변경만 읽어 반영한다.
+ */
+@Component
+@ConditionalOnProperty(name = "subway.network.polling.enabled", havingValue = "true", matchIfMissing = true)
+public class NetworkChangePoller {
+    private NetworkChangeRepository networkChangeRepository;
+    private SubwayGraphService subwayGraphService;
+    private StationSearchService stationSearchService;
+
+    public NetworkChangePoller(NetworkChangeRepository networkChangeRepository, SubwayGraphService subwayGraphService,
+                               StationSearchService stationSearchService) {
+        this.networkChangeRepository = networkChangeRepository;
+        this.subwayGraphService = subwayGraphService;
+        this.stationSearchService = stationSearchService;
+    }
+
+    /**
+     * 읽기 전용이 아닌 트랜잭션으로 묶어 복제본을 쓰는 환경에서도 주 데이터베이스의 순번과 변경을 읽는다.
+     */
+    @Scheduled(fixedDelayString = "${subway.network.polling.interval-millis:1000}")
+    @Transactional
+    public void poll() {
+        long latestSequenceNumber = networkChangeRepository.findLatestSequenceNumber();
+        subwayGraphService.catchUp(latestSequenceNumber);
+        stationSearchService.catchUp(latestSequenceNumber);
+    }
+}
@@ -0,0 +1,33 @@
+package nextstep.subway.applicaion;
+
+import nextstep.subway.domain.NetworkChange;
+import nextstep.subway.domain.NetworkChangeRepository;
+import nextstep.subway.domain.NetworkVersion;
+import nextstep.subway.domain.NetworkVersionRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 쓰기 트랜잭션 안에서 변경 로그를 남긴다. 순번 행을 잠근 채 커밋까지 가므로 먼저 커밋된 변경이 항상 더 작은 순번을 가진다.
+ * 순번 행은 NetworkVersionInitializer 가 시작할 때 만들어 둔다.
+ */
+@Component
+public class NetworkChangeRecorder {
+    private NetworkChangeRepository networkChangeRepository;
+    private NetworkVersionRepository networkVersionRepository;
+
+    public NetworkChangeRecorder(NetworkChangeRepository networkChangeRepository,
+                                 NetworkVersionRepository networkVersionRepository) {
+        this.networkChangeRepository = networkChangeRepository;
+        this.networkVersionRepository = networkVersionRepository;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(NetworkChange change) {
+        NetworkVersion version = networkVersionRepository.findWithLockById(NetworkVersion.ID)
+                .orElseThrow(() -> new IllegalStateException("변경 로그 순번 행이 없습니다."));
+        change.setSequenceNumber(version.next());
+        networkChangeRepository.save(change);
+    }
+}
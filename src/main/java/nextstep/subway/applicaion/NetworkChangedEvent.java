@@ -0,0 +1,4 @@
+package nextstep.subway.applicaion;
+
+public class NetworkChangedEvent {
+}
@@ -0,0 +1,7 @@
+package nextstep.subway.applicaion;
+
+/**
+ * 서비스를 거치지 않고 지하철 데이터가 통째로 바뀌었을 때 발행한다. 메모리에 든 그래프와 인덱스는 처음부터 다시 적재한다.
+ */
+public class NetworkResetEvent {
+}
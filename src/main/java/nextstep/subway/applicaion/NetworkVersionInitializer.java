@@ -0,0 +1,37 @@
+package nextstep.subway.applicaion;
+
+import nextstep.subway.domain.NetworkVersion;
+import nextstep.subway.domain.NetworkVersionRepository;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 변경 로그 순번 행을 요청을 받기 전에 만들어 둔다. 없는 행은 잠글 수 없으므로 NetworkChangeRecorder 는 이 행이 있다고 가정한다.
+ * 같은 데이터베이스를 쓰는 다른 인스턴스가 먼저 만들었다면 그 행을 그대로 쓴다.
+ */
+@Component
+public class NetworkVersionInitializer implements ApplicationRunner {
+    private NetworkVersionRepository networkVersionRepository;
+
+    public NetworkVersionInitializer(NetworkVersionRepository networkVersionRepository) {
+        this.networkVersionRepository = networkVersionRepository;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        initialize();
+    }
+
+    public void initialize() {
+        if (networkVersionRepository.existsById(NetworkVersion.ID)) {
+            return;
+        }
+        try {
+            networkVersionRepository.saveAndFlush(new NetworkVersion());
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 먼저 만들었다.
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package nextstep.subway.applicaion;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import nextstep.subway.domain.Path;
+import nextstep.subway.domain.PathEngine;
+import nextstep.subway.domain.PathType;
+import nextstep.subway.domain.SubwayGraph;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기본 엔진이 응답한 검색 중 일부를 요청 스레드 밖에서 비교 엔진으로 다시 실행한다.
+ * 같은 가중치 합의 경로는 여러 개일 수 있으므로 역 목록이 아니라 가중치 합이 다를 때만 불일치로 본다.
+ */
+public class PathEngineShadow {
+    private static final Logger log = LoggerFactory.getLogger(PathEngineShadow.class);
+
+    private PathEngine engine;
+    private double sampleRate;
+    private Executor executor;
+
+    private Counter matches;
+    private Counter mismatches;
+    private Counter dropped;
+    private Timer primaryLatency;
+    private Timer shadowLatency;
+
+    public PathEngineShadow(PathEngine engine, String primaryName, String shadowName, double sampleRate,
+                            Executor executor, MeterRegistry registry) {
+        this.engine = engine;
+        this.sampleRate = sampleRate;
+        this.executor = executor;
+        this.matches = registry.counter("subway.path.shadow.comparisons", "engine", shadowName, "result", "match");
+        this.mismatches = registry.counter("subway.path.shadow.comparisons", "engine", shadowName, "result", "mismatch");
+        this.dropped = registry.counter("subway.path.shadow.dropped", "engine", shadowName);
+        this.primaryLatency = registry.timer("subway.path.shadow.latency", "engine", primaryName, "role", "primary");
+        this.shadowLatency = registry.timer("subway.path.shadow.latency", "engine", shadowName, "role", "shadow");
+    }
+
+    public void compare(SubwayGraph graph, long source, long target, PathType type, Path primary, long primaryNanos) {
+        if (ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return;
+        }
+        try {
+            executor.execute(() -> run(graph, source, target, type, primary, primaryNanos));
+        } catch (RejectedExecutionException e) {
+            dropped.increment();
+        }
+    }
+
+    private void run(SubwayGraph graph, long source, long target, PathType type, Path primary, long primaryNanos) {
+        long startTime = System.nanoTime();
+        Path shadow;
+        try {
+            shadow = engine.findShortestPath(graph, source, target, type);
+        } catch (IllegalArgumentException e) {
+            shadow = null;
+        }
+        shadowLatency.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+        primaryLatency.record(primaryNanos, TimeUnit.NANOSECONDS);
+
+        if (shadow != null && weightOf(graph, shadow, type) == weightOf(graph, primary, type)) {
+            matches.increment();
+            return;
+        }
+        mismatches.increment();
+        log.warn("path engine mismatch: version={}, source={}, target={}, type={}, primary={}, shadow={}",
+                graph.getVersion(), source, target, type, weightOf(graph, primary, type),
+                shadow == null ? "none" : weightOf(graph, shadow, type));
+    }
+
+    private static long weightOf(SubwayGraph graph, Path path, PathType type) {
+        long weight = 0;
+        for (int section : path.getSections()) {
+            weight += graph.sectionWeight(section, type);
+        }
+        return weight;
+    }
+}
@@ -0,0 +1,87 @@
+package nextstep.subway.applicaion;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import nextstep.subway.domain.Path;
+import nextstep.subway.domain.PathEngine;
+import nextstep.subway.domain.PathType;
+import nextstep.subway.domain.SubwayGraph;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 빈 이름으로 등록된 경로 엔진 중 subway.path.engine.primary 로 고른 엔진이 응답하고,
+ * subway.path.engine.shadow 를 지정하면 sample-rate 비율의 검색을 그 엔진과 비교한다.
+ */
+@Component
+public class PathEngines implements DisposableBean {
+    private PathEngine primary;
+    private String primaryName;
+    private PathEngineShadow shadow;
+    private ThreadPoolExecutor shadowExecutor;
+
+    public PathEngines(Map<String, PathEngine> engines,
+                       @Value("${subway.path.engine.primary:compact}") String primaryName,
+                       @Value("${subway.path.engine.shadow:}") String shadowName,
+                       @Value("${subway.path.engine.shadow-sample-rate:0.01}") double sampleRate,
+                       @Value("${subway.path.engine.shadow-queue-capacity:64}") int queueCapacity,
+                       MeterRegistry registry) {
+        this.primary = findEngine(engines, primaryName);
+        this.primaryName = primaryName;
+        if (shadowName.isEmpty()) {
+            return;
+        }
+        this.shadowExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+            Thread thread = new Thread(runnable, "path-engine-shadow");
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.AbortPolicy());
+        this.shadow = new PathEngineShadow(findEngine(engines, shadowName), primaryName, shadowName, sampleRate,
+                shadowExecutor, registry);
+    }
+
+    private static PathEngine findEngine(Map<String, PathEngine> engines, String name) {
+        PathEngine engine = engines.get(name);
+        if (engine == null) {
+            throw new IllegalStateException("등록되지 않은 경로 엔진입니다: " + name + " " + engines.keySet());
+        }
+        return engine;
+    }
+
+    public Path findShortestPath(SubwayGraph graph, long source, long target, PathType type) {
+        return findShortestPath(graph, source, target, type, true);
+    }
+
+    /**
+     * sampled 가 false 인 검색은 섀도 비교 표본에 넣지 않는다. 워밍업처럼 실제 요청이 아닌 검색이 비교 통계를 흐리지 않게 한다.
+     */
+    public Path findShortestPath(SubwayGraph graph, long source, long target, PathType type, boolean sampled) {
+        long startTime = System.nanoTime();
+        Path path = primary.findShortestPath(graph, source, target, type);
+        if (sampled && shadow != null) {
+            shadow.compare(graph, source, target, type, path, System.nanoTime() - startTime);
+        }
+        return path;
+    }
+
+    public String getPrimaryName() {
+        return primaryName;
+    }
+
+    public int getSettledCount(SubwayGraph graph) {
+        return primary.getSettledCount(graph);
+    }
+
+    @Override
+    public void destroy() {
+        if (shadowExecutor != null) {
+            shadowExecutor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package nextstep.subway.applicaion;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+@Component
+public class PathSearchExecutor implements Executor, DisposableBean {
+    private ThreadPoolExecutor executor;
+    private long timeoutMillis;
+    private AdaptiveConcurrencyLimiter limiter;
+
+    public PathSearchExecutor(@Value("${subway.path.executor.pool-size:4}") int poolSize,
+                              @Value("${subway.path.executor.queue-capacity:64}") int queueCapacity,
+                              @Value("${subway.path.executor.timeout-millis:3000}") long timeoutMillis,
+                              AdaptiveConcurrencyLimiter limiter) {
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                createQueue(queueCapacity), createThreadFactory(), new ThreadPoolExecutor.AbortPolicy());
+        this.timeoutMillis = timeoutMillis;
+        this.limiter = limiter;
+    }
+
+    /**
+     * 리미터의 한도를 넘었거나 큐가 가득 차면 RejectedExecutionException 을 바로 던지고,
+     * 제한 시간을 넘긴 검색은 TimeoutException 으로 완료시켜 요청 스레드를 붙잡지 않는다.
+     * 시간이 지난 검색은 큐에 있으면 빼내고 실행 중이면 스레드를 중단시키며,
+     * 허가는 검색이 실제로 스레드를 놓은 뒤에 반납해 리미터가 풀의 실제 사용량을 넘겨 허가하지 않게 한다.
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        SearchTask<T> searchTask = new SearchTask<>(task, acquire());
+        try {
+            executor.execute(searchTask);
+        } catch (RejectedExecutionException e) {
+            limiter.release(System.nanoTime() - searchTask.startTime, true);
+            throw e;
+        }
+        return searchTask.result
+                .orTimeout(timeoutMillis, TimeUnit.MILLISECONDS)
+                .whenComplete((result, error) -> {
+                    if (error instanceof TimeoutException) {
+                        searchTask.cancel();
+                    }
+                });
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        long startTime = acquire();
+        try {
+            executor.execute(() -> {
+                try {
+                    command.run();
+                } finally {
+                    limiter.release(System.nanoTime() - startTime, false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            limiter.release(System.nanoTime() - startTime, true);
+            throw e;
+        }
+    }
+
+    /**
+     * 코어 스레드를 모두 띄우고 스레드마다 task 를 한 번씩 실행한 뒤 모두 끝날 때까지 기다린다.
+     * 검색기 캐시가 스레드마다 따로 있으므로 실제 검색을 맡을 스레드에서 워밍업해야 첫 요청이 검색기를 만들지 않는다.
+     * 모든 스레드가 작업 하나씩을 잡을 때까지 장벽에서 기다리므로 한 스레드가 두 번 실행하지 않는다.
+     * 리미터와 제한 시간을 거치지 않으므로 요청을 받기 전에만 쓴다.
+     */
+    public void runOnEachThread(Runnable task) {
+        executor.prestartAllCoreThreads();
+        int threads = executor.getCorePoolSize();
+        CyclicBarrier barrier = new CyclicBarrier(threads);
+        List<FutureTask<Void>> runs = new ArrayList<>(threads);
+        try {
+            for (int i = 0; i < threads; i++) {
+                FutureTask<Void> run = new FutureTask<>(() -> {
+                    barrier.await();
+                    task.run();
+                    return null;
+                });
+                runs.add(run);
+                // 코어 스레드가 모두 큐를 기다리고 있으므로 큐 용량과 상관없이 넣을 수 있을 때까지 기다렸다 넣는다.
+                executor.getQueue().put(run);
+            }
+            for (FutureTask<Void> run : runs) {
+                run.get();
+            }
+        } catch (InterruptedException e) {
+            barrier.reset();
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("경로 검색 스레드 워밍업이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            barrier.reset();
+            throw new IllegalStateException("경로 검색 스레드 워밍업에 실패했습니다.", e.getCause());
+        }
+    }
+
+    public int getPoolSize() {
+        return executor.getCorePoolSize();
+    }
+
+    private long acquire() {
+        if (!limiter.tryAcquire()) {
+            throw new RejectedExecutionException("경로 검색 동시 실행 한도를 넘었습니다.");
+        }
+        return System.nanoTime();
+    }
+
+    public long getTimeoutMillis() {
+        return timeoutMillis;
+    }
+
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    public int getQueueSize() {
+        return executor.getQueue().size();
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 제한 시간이 지나 취소되면 큐에서 빠지거나 실행 중인 스레드가 중단되고, 어느 쪽이든 허가는 한 번만 반납한다.
+     */
+    private final class SearchTask<T> implements Runnable {
+        private final Supplier<T> task;
+        private final long startTime;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private Thread runner;
+        private boolean cancelled;
+        private boolean finished;
+
+        private SearchTask(Supplier<T> task, long startTime) {
+            this.task = task;
+            this.startTime = startTime;
+        }
+
+        @Override
+        public void run() {
+            if (!start()) {
+                return;
+            }
+            try {
+                result.complete(task.get());
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            } finally {
+                finish();
+            }
+        }
+
+        private synchronized boolean start() {
+            if (cancelled) {
+                release();
+                return false;
+            }
+            runner = Thread.currentThread();
+            return true;
+        }
+
+        private void finish() {
+            synchronized (this) {
+                runner = null;
+                release();
+            }
+            // 취소가 검색 루프를 벗어난 뒤에 도착했다면 남은 중단 표시가 다음 작업으로 새지 않게 지운다.
+            Thread.interrupted();
+        }
+
+        private synchronized void cancel() {
+            if (finished) {
+                return;
+            }
+            cancelled = true;
+            if (runner != null) {
+                runner.interrupt();
+            } else if (executor.remove(this)) {
+                release();
+            }
+        }
+
+        private void release() {
+            finished = true;
+            limiter.release(System.nanoTime() - startTime, cancelled);
+        }
+    }
+
+    private static BlockingQueue<Runnable> createQueue(int queueCapacity) {
+        if (queueCapacity <= 0) {
+            return new SynchronousQueue<>();
+        }
+        return new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    private static ThreadFactory createThreadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "path-search-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,211 @@
+package nextstep.subway.applicaion;
+
+import nextstep.subway.applicaion.dto.LineSummaryResponse;
+import nextstep.subway.applicaion.dto.MeetingPointResponse;
+import nextstep.subway.applicaion.dto.PathResponse;
+import nextstep.subway.applicaion.dto.PathSegmentResponse;
+import nextstep.subway.applicaion.dto.ReachableStationResponse;
+import nextstep.subway.applicaion.dto.StationResponse;
+import nextstep.subway.applicaion.jfr.PathSearchEvent;
+import nextstep.subway.domain.LineAwarePathFinder;
+import nextstep.subway.domain.MeetingObjective;
+import nextstep.subway.domain.MeetingPointSearch;
+import nextstep.subway.domain.ParetoPathFinder;
+import nextstep.subway.domain.Path;
+import nextstep.subway.domain.PathFinder;
+import nextstep.subway.domain.PathType;
+import nextstep.subway.domain.SubwayGraph;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@Service
+public class PathService {
+    private SubwayGraphService subwayGraphService;
+    private PathEngines pathEngines;
+    private CompactPathEngine compactPathEngine;
+
+    private final FinderCache<LineAwarePathFinder> lineAwarePathFinders = new FinderCache<>("lineAwarePathFinder", LineAwarePathFinder::new);
+    private final FinderCache<ParetoPathFinder> paretoPathFinders = new FinderCache<>("paretoPathFinder", ParetoPathFinder::new);
+
+    public PathService(SubwayGraphService subwayGraphService, PathEngines pathEngines,
+                       CompactPathEngine compactPathEngine) {
+        this.subwayGraphService = subwayGraphService;
+        this.pathEngines = pathEngines;
+        this.compactPathEngine = compactPathEngine;
+    }
+
+    public PathResponse findPath(Long source, Long target) {
+        return findPath(source, target, PathType.DISTANCE, 0);
+    }
+
+    public PathResponse findPath(Long source, Long target, PathType type, int transferPenalty) {
+        SubwayGraph graph = subwayGraphService.getGraph();
+        Path path = search(graph, source, target, type, transferPenalty);
+        return createPathResponse(graph, path);
+    }
+
+    /**
+     * 요청과 같은 검색기와 응답 생성 코드를 지나지만 JFR 검색 이벤트와 섀도 비교 표본에는 남기지 않는다.
+     */
+    public PathResponse warmUp(Long source, Long target, PathType type) {
+        SubwayGraph graph = subwayGraphService.getGraph();
+        Path path = type == PathType.TRANSFER
+                ? lineAwarePathFinders.get(graph).findFewestTransfersPath(source, target)
+                : pathEngines.findShortestPath(graph, source, target, type, false);
+        return createPathResponse(graph, path);
+    }
+
+    public List<PathResponse> findParetoPaths(Long source, Long target) {
+        SubwayGraph graph = subwayGraphService.getGraph();
+        ParetoPathFinder finder = paretoPathFinders.get(graph);
+        PathSearchEvent event = PathSearchEvent.start(PathSearchEvent.Search.PARETO);
+        List<Path> paths = null;
+        try {
+            paths = finder.findParetoPaths(source, target);
+        } finally {
+            event.finish(graph, source, target, null, finder.getSettledCount(), paths);
+        }
+        return paths.stream()
+                .map(path -> createPathResponse(graph, path))
+                .collect(Collectors.toList());
+    }
+
+    public void findReachableStations(Long source, int maxDistance, Consumer<ReachableStationResponse> consumer) {
+        SubwayGraph graph = subwayGraphService.getGraph();
+        PathFinder finder = compactPathEngine.finder(graph);
+        PathSearchEvent event = PathSearchEvent.start(PathSearchEvent.Search.REACHABLE_STATIONS);
+        int[] results = new int[1];
+        try {
+            finder.findReachableStations(source, maxDistance, (station, distance) -> {
+                results[0]++;
+                consumer.accept(new ReachableStationResponse(graph.stationId(station), graph.stationName(station), distance));
+            });
+        } finally {
+            event.finish(graph, source, -1, finder.getSettledCount(), results[0]);
+        }
+    }
+
+    /**
+     * 출발역마다의 검색을 공용 ForkJoinPool 에서 병렬로 돌린다. 검색 하나는 다른 작업을 기다리지 않으므로
+     * 같은 스레드에서 두 검색이 겹쳐 스레드별 검색기를 함께 쓰는 일은 없다.
+     * PathSearchExecutor 는 제한 시간이 지나면 요청 스레드만 중단시키므로, 작업 스레드의 검색은 역을 확정할 때마다
+     * 요청 스레드의 중단 여부와 공유 취소 표시를 보고 멈춘다. 한 검색이 실패하면 취소 표시를 세워 나머지도 멈춘다.
+     */
+    public MeetingPointResponse findMeetingPoint(List<Long> origins, MeetingObjective objective) {
+        SubwayGraph graph = subwayGraphService.getGraph();
+        MeetingPointSearch search = new MeetingPointSearch(graph, origins, objective);
+        PathSearchEvent event = PathSearchEvent.start(PathSearchEvent.Search.MEETING_POINT);
+        Thread caller = Thread.currentThread();
+        AtomicBoolean cancelled = new AtomicBoolean();
+        int settledStations = 0;
+        try {
+            settledStations = IntStream.range(0, search.originCount()).parallel().map(origin -> {
+                PathFinder finder = compactPathEngine.finder(graph);
+                finder.visitStations(search.originId(origin), (station, distance) -> {
+                    checkCancelled(caller, cancelled);
+                    return search.visit(origin, station, distance);
+                });
+                return finder.getSettledCount();
+            }).sum();
+        } finally {
+            cancelled.set(true);
+            boolean found = search.isFound();
+            event.finish(graph, -1, found ? graph.stationId(search.getStation()) : -1, settledStations, found ? 1 : 0);
+        }
+
+        if (!search.isFound()) {
+            throw new IllegalArgumentException("모든 출발역과 연결된 역이 없습니다.");
+        }
+        int station = search.getStation();
+        List<Integer> distances = IntStream.range(0, search.originCount())
+                .mapToObj(search::distanceFrom)
+                .collect(Collectors.toList());
+        return new MeetingPointResponse(new StationResponse(graph.stationId(station), graph.stationName(station)),
+                search.getCost(), distances);
+    }
+
+    private static void checkCancelled(Thread caller, AtomicBoolean cancelled) {
+        if (cancelled.get() || caller.isInterrupted()) {
+            cancelled.set(true);
+            throw new CancellationException("경로 검색이 중단되었습니다.");
+        }
+    }
+
+    private Path search(SubwayGraph graph, Long source, Long target, PathType type, int transferPenalty) {
+        if (type == PathType.TRANSFER || transferPenalty != 0) {
+            return searchLineAware(graph, source, target, type, transferPenalty);
+        }
+        PathSearchEvent event = PathSearchEvent.start(PathSearchEvent.Search.SHORTEST).engine(pathEngines.getPrimaryName());
+        Path path = null;
+        try {
+            path = pathEngines.findShortestPath(graph, source, target, type);
+            return path;
+        } finally {
+            event.finish(graph, source, target, type, pathEngines.getSettledCount(graph), path);
+        }
+    }
+
+    private Path searchLineAware(SubwayGraph graph, Long source, Long target, PathType type, int transferPenalty) {
+        LineAwarePathFinder finder = lineAwarePathFinders.get(graph);
+        boolean fewestTransfers = type == PathType.TRANSFER;
+        PathSearchEvent event = PathSearchEvent.start(fewestTransfers
+                ? PathSearchEvent.Search.FEWEST_TRANSFERS : PathSearchEvent.Search.TRANSFER_PENALTY);
+        Path path = null;
+        try {
+            path = fewestTransfers
+                    ? finder.findFewestTransfersPath(source, target)
+                    : finder.findPath(source, target, transferPenalty);
+            return path;
+        } finally {
+            event.finish(graph, source, target, type, finder.getSettledCount(), path);
+        }
+    }
+
+    private PathResponse createPathResponse(SubwayGraph graph, Path path) {
+        List<StationResponse> stations = new ArrayList<>(path.getStations().length);
+        for (int station : path.getStations()) {
+            stations.add(new StationResponse(graph.stationId(station), graph.stationName(station)));
+        }
+        List<PathSegmentResponse> segments = createSegmentResponses(graph, path, stations);
+        List<StationResponse> transferStations = segments.stream()
+                .skip(1)
+                .map(PathSegmentResponse::getDeparture)
+                .collect(Collectors.toList());
+        return new PathResponse(stations, path.getDistance(), path.getDuration(),
+                graph.countTransfers(path.getSections()), graph.fareOf(path), segments, transferStations);
+    }
+
+    /**
+     * 경로의 구간 번호로 그래프에서 노선을 찾아 같은 노선을 연달아 지나는 구간을 하나로 묶는다.
+     * 검색이 끝난 뒤 노선을 다시 읽지 않으므로 응답을 만드는 동안 데이터베이스에 접근하지 않는다.
+     */
+    private List<PathSegmentResponse> createSegmentResponses(SubwayGraph graph, Path path, List<StationResponse> stations) {
+        int[] sections = path.getSections();
+        List<PathSegmentResponse> segments = new ArrayList<>();
+        int start = 0;
+        int distance = 0;
+        int duration = 0;
+        for (int i = 0; i < sections.length; i++) {
+            distance += graph.sectionDistance(sections[i]);
+            duration += graph.sectionDuration(sections[i]);
+            int line = graph.sectionLine(sections[i]);
+            if (i + 1 < sections.length && graph.sectionLine(sections[i + 1]) == line) {
+                continue;
+            }
+            LineSummaryResponse lineResponse = new LineSummaryResponse(graph.lineId(line), graph.lineName(line), graph.lineColor(line));
+            segments.add(new PathSegmentResponse(lineResponse, stations.get(start), stations.get(i + 1),
+                    i + 1 - start, distance, duration));
+            start = i + 1;
+            distance = 0;
+            duration = 0;
+        }
+        return segments;
+    }
+}
@@ -0,0 +1,184 @@
+package nextstep.subway.applicaion;
+
+import nextstep.subway.applicaion.dto.SectionRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 같은 노선에 동시에 들어온 구간 추가 요청을 모아 한 트랜잭션으로 저장한다.
+ * 노선마다 한 번에 한 요청 스레드만 이끄는 역할을 맡아 자기 요청과 대기열 앞쪽의 요청을 한 묶음으로 저장하고,
+ * 역할을 내려놓으며 대기열 맨 앞의 요청 스레드를 깨워 다음 묶음을 넘긴다. 이끄는 스레드도 자기 묶음 하나만 저장하고 돌아간다.
+ * 따로 모으는 시간을 두지 않으므로 동시 요청이 없으면 요청 하나가 곧 묶음 하나다.
+ */
+@Component
+public class SectionWriteBatcher {
+    private LineService lineService;
+    private int maxBatchSize;
+
+    private final Map<Long, LineQueue> queues = new ConcurrentHashMap<>();
+
+    public SectionWriteBatcher(LineService lineService, @Value("${subway.section.batch.max-size:100}") int maxBatchSize) {
+        this.lineService = lineService;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public void addSection(Long lineId, SectionRequest sectionRequest) {
+        PendingSection pending = new PendingSection(sectionRequest);
+        LineQueue queue = queues.compute(lineId, (id, current) -> {
+            LineQueue target = current != null ? current : new LineQueue();
+            target.pendings.add(pending);
+            return target;
+        });
+
+        while (!pending.result.isDone()) {
+            if (queue.leading.compareAndSet(false, true)) {
+                try {
+                    if (!pending.result.isDone()) {
+                        write(lineId, queue.pollWith(pending, maxBatchSize));
+                    }
+                } finally {
+                    release(lineId, queue);
+                }
+            } else {
+                pending.turn.acquireUninterruptibly();
+            }
+        }
+        await(pending);
+    }
+
+    /**
+     * 역할을 내려놓은 뒤 대기열을 보므로, 그 전에 역할을 얻지 못하고 잠든 요청은 여기서 깨운다.
+     * 대기열이 비었으면 삭제한 노선의 대기열이 남지 않도록 지도에서 뺀다.
+     */
+    private void release(Long lineId, LineQueue queue) {
+        queue.leading.set(false);
+        PendingSection next = queue.pendings.peek();
+        if (next != null) {
+            next.turn.release();
+            return;
+        }
+        queues.computeIfPresent(lineId, (id, current) ->
+                current == queue && current.pendings.isEmpty() && !current.leading.get() ? null : current);
+    }
+
+    /**
+     * 묶음 전체가 실패하면 어느 요청 때문인지 알 수 없으므로 요청마다 따로 저장해 각자의 결과를 돌려준다.
+     * Error 처럼 예상하지 못한 실패로 빠져나가더라도 꺼낸 요청을 모두 끝내 기다리는 요청 스레드가 남지 않게 한다.
+     */
+    private void write(Long lineId, List<PendingSection> batch) {
+        try {
+            writeBatch(lineId, batch);
+        } catch (Throwable e) {
+            for (PendingSection pending : batch) {
+                pending.fail(e);
+            }
+            throw e;
+        }
+    }
+
+    private void writeBatch(Long lineId, List<PendingSection> batch) {
+        List<SectionRequest> sectionRequests = new ArrayList<>(batch.size());
+        for (PendingSection pending : batch) {
+            sectionRequests.add(pending.sectionRequest);
+        }
+
+        List<IllegalArgumentException> rejections;
+        try {
+            rejections = lineService.addSections(lineId, sectionRequests);
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                batch.get(0).complete(e);
+                return;
+            }
+            writeEach(lineId, batch);
+            return;
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).complete(rejections.get(i));
+        }
+    }
+
+    private void writeEach(Long lineId, List<PendingSection> batch) {
+        for (PendingSection pending : batch) {
+            try {
+                lineService.addSection(lineId, pending.sectionRequest);
+                pending.complete(null);
+            } catch (RuntimeException e) {
+                pending.complete(e);
+            }
+        }
+    }
+
+    private static void await(PendingSection pending) {
+        try {
+            pending.result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private static class LineQueue {
+        private final Queue<PendingSection> pendings = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean leading = new AtomicBoolean();
+
+        /**
+         * 이끄는 요청은 아직 끝나지 않았으므로 대기열에 남아 있다. 이를 먼저 꺼내고 앞쪽의 요청으로 묶음을 채운다.
+         */
+        private List<PendingSection> pollWith(PendingSection leader, int maxBatchSize) {
+            pendings.remove(leader);
+            List<PendingSection> batch = new ArrayList<>();
+            batch.add(leader);
+            PendingSection pending;
+            while (batch.size() < maxBatchSize && (pending = pendings.poll()) != null) {
+                batch.add(pending);
+            }
+            return batch;
+        }
+    }
+
+    private static class PendingSection {
+        private final SectionRequest sectionRequest;
+        private final CompletableFuture<Void> result = new CompletableFuture<>();
+        private final Semaphore turn = new Semaphore(0);
+
+        private PendingSection(SectionRequest sectionRequest) {
+            this.sectionRequest = sectionRequest;
+        }
+
+        private void complete(RuntimeException failure) {
+            if (failure == null) {
+                result.complete(null);
+            } else {
+                result.completeExceptionally(failure);
+            }
+            turn.release();
+        }
+
+        /**
+         * 이미 끝난 요청은 그대로 두어 결과와 깨우는 신호가 두 번 가지 않게 한다.
+         */
+        private void fail(Throwable failure) {
+            if (result.completeExceptionally(failure)) {
+                turn.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package nextstep.subway.applicaion;
+
+public class StationDeletedEvent {
+    private final Long id;
+
+    public StationDeletedEvent(Long id) {
+        this.id = id;
+    }
+
+    public Long getId() {
+        return id;
+    }
+}
@@ -0,0 +1,19 @@
+package nextstep.subway.applicaion;
+
+public class StationSavedEvent {
+    private final Long id;
+    private final String name;
+
+    public StationSavedEvent(Long id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+}
@@ -0,0 +1,99 @@
+package nextstep.subway.applicaion;
+
+import nextstep.subway.applicaion.dto.StationResponse;
+import nextstep.subway.domain.NetworkChange;
+import nextstep.subway.domain.NetworkChangeRepository;
+import nextstep.subway.domain.NetworkChangeType;
+import nextstep.subway.domain.StationNameIndex;
+import nextstep.subway.domain.StationRepository;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 역 이름 자동 완성을 위한 접두어 인덱스. 처음 검색할 때 한 번 적재하고, 이후에는 역 생성/삭제 이벤트로 한 건씩 갱신한다.
+ * 다른 인스턴스에서 일어난 변경은 catchUp 으로 변경 로그를 읽어 반영한다.
+ */
+@Service
+public class StationSearchService {
+    private StationRepository stationRepository;
+    private NetworkChangeRepository networkChangeRepository;
+
+    private volatile StationNameIndex index;
+    private long sequenceNumber;
+
+    public StationSearchService(StationRepository stationRepository, NetworkChangeRepository networkChangeRepository) {
+        this.stationRepository = stationRepository;
+        this.networkChangeRepository = networkChangeRepository;
+    }
+
+    public List<StationResponse> searchStations(String prefix, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("검색 개수는 1 이상이어야 합니다.");
+        }
+
+        StationNameIndex current = getIndex();
+        List<StationResponse> stations = new ArrayList<>();
+        for (int position : current.search(prefix, limit)) {
+            stations.add(new StationResponse(current.stationId(position), current.stationName(position)));
+        }
+        return stations;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void add(StationSavedEvent event) {
+        if (index != null) {
+            index = index.add(event.getId(), event.getName());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void remove(StationDeletedEvent event) {
+        if (index != null) {
+            index = index.remove(event.getId());
+        }
+    }
+
+    public synchronized void catchUp(long latestSequenceNumber) {
+        if (index == null || sequenceNumber >= latestSequenceNumber) {
+            return;
+        }
+
+        StationNameIndex current = index;
+        List<NetworkChange> changes = networkChangeRepository.findBySequenceNumberGreaterThanOrderBySequenceNumber(sequenceNumber);
+        for (NetworkChange change : changes) {
+            if (change.getType() == NetworkChangeType.STATION_ADDED) {
+                current = current.add(change.getStationId(), change.getName());
+            }
+            if (change.getType() == NetworkChangeType.STATION_REMOVED) {
+                current = current.remove(change.getStationId());
+            }
+            sequenceNumber = change.getSequenceNumber();
+        }
+        index = current;
+    }
+
+    @EventListener
+    public synchronized void reset(NetworkResetEvent event) {
+        index = null;
+    }
+
+    private StationNameIndex getIndex() {
+        StationNameIndex current = index;
+        if (current != null) {
+            return current;
+        }
+        return load();
+    }
+
+    private synchronized StationNameIndex load() {
+        if (index == null) {
+            sequenceNumber = networkChangeRepository.findLatestSequenceNumber();
+            index = StationNameIndex.of(stationRepository.findAll());
+        }
+        return index;
+    }
+}
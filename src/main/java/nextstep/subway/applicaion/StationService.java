@@ -1,39 +1,103 @@
 package nextstep.subway.applicaion;
 
+import nextstep.subway.applicaion.dto.LineSummaryResponse;
+import nextstep.subway.applicaion.dto.StationListResponse;
 import nextstep.subway.applicaion.dto.StationRequest;
 import nextstep.subway.applicaion.dto.StationResponse;
+import nextstep.subway.applicaion.dto.TransferStationResponse;
+import nextstep.subway.domain.NetworkChange;
 import nextstep.subway.domain.Station;
 import nextstep.subway.domain.StationRepository;
+import nextstep.subway.domain.SubwayGraph;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @Transactional(readOnly = true)
 public class StationService {
     private StationRepository stationRepository;
+    private NetworkChangeRecorder networkChangeRecorder;
+    private SubwayGraphService subwayGraphService;
+    private ApplicationEventPublisher eventPublisher;
 
-    public StationService(StationRepository stationRepository) {
+    public StationService(StationRepository stationRepository, NetworkChangeRecorder networkChangeRecorder,
+                          SubwayGraphService subwayGraphService, ApplicationEventPublisher eventPublisher) {
         this.stationRepository = stationRepository;
+        this.networkChangeRecorder = networkChangeRecorder;
+        this.subwayGraphService = subwayGraphService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
     public StationResponse saveStation(StationRequest stationRequest) {
         Station station = stationRepository.save(new Station(stationRequest.getName()));
+        networkChangeRecorder.record(NetworkChange.stationAdded(station));
+        eventPublisher.publishEvent(new NetworkChangedEvent());
+        eventPublisher.publishEvent(new StationSavedEvent(station.getId(), station.getName()));
         return createStationResponse(station);
     }
 
-    public List<StationResponse> findAllStations() {
-        return stationRepository.findAll().stream()
-                .map(this::createStationResponse)
-                .collect(Collectors.toList());
+    public StationListResponse findAllStations() {
+        List<Station> stations = stationRepository.findAll();
+        long[] ids = new long[stations.size()];
+        String[] names = new String[stations.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = stations.get(i).getId();
+            names[i] = stations.get(i).getName();
+        }
+        return new StationListResponse(ids, names);
     }
 
+    /**
+     * 지하철 그래프의 인접 목록으로 역을 쓰는 구간이 있는지 확인한다.
+     * 다른 인스턴스가 방금 추가한 구간처럼 그래프가 아직 모르는 구간은 외래 키 제약이 막는다.
+     */
     @Transactional
     public void deleteStationById(Long id) {
+        SubwayGraph graph = subwayGraphService.getGraph();
+        int station = graph.findStationIndex(id);
+        if (station >= 0 && graph.hasSections(station)) {
+            throw new IllegalArgumentException("구간에 등록된 역은 삭제할 수 없습니다.");
+        }
+
         stationRepository.deleteById(id);
+        networkChangeRecorder.record(NetworkChange.stationRemoved(id));
+        eventPublisher.publishEvent(new NetworkChangedEvent());
+        eventPublisher.publishEvent(new StationDeletedEvent(id));
+    }
+
+    public List<LineSummaryResponse> findLinesThrough(Long id) {
+        SubwayGraph graph = subwayGraphService.getGraph();
+        int station = graph.findStationIndex(id);
+        if (station < 0) {
+            throw new IllegalArgumentException("존재하지 않는 역입니다: " + id);
+        }
+        return createLineSummaryResponses(graph, station);
+    }
+
+    public List<TransferStationResponse> findTransferStations() {
+        SubwayGraph graph = subwayGraphService.getGraph();
+        List<TransferStationResponse> transferStations = new ArrayList<>();
+        for (int station = 0; station < graph.stationCount(); station++) {
+            if (graph.isTransferStation(station)) {
+                transferStations.add(new TransferStationResponse(graph.stationId(station), graph.stationName(station),
+                        createLineSummaryResponses(graph, station)));
+            }
+        }
+        return transferStations;
+    }
+
+    private List<LineSummaryResponse> createLineSummaryResponses(SubwayGraph graph, int station) {
+        List<LineSummaryResponse> lines = new ArrayList<>(graph.stateEnd(station) - graph.stateStart(station));
+        for (int state = graph.stateStart(station); state < graph.stateEnd(station); state++) {
+            int line = graph.stateLine(state);
+            lines.add(new LineSummaryResponse(graph.lineId(line), graph.lineName(line), graph.lineColor(line)));
+        }
+        return lines;
     }
 
     public StationResponse createStationResponse(Station station) {
@@ -0,0 +1,106 @@
+package nextstep.subway.applicaion;
+
+import nextstep.subway.applicaion.jfr.GraphRefreshEvent;
+import nextstep.subway.domain.LineRepository;
+import nextstep.subway.domain.NetworkChange;
+import nextstep.subway.domain.NetworkChangeRepository;
+import nextstep.subway.domain.StationRepository;
+import nextstep.subway.domain.SubwayGraph;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 처음 한 번만 전체 역과 노선을 읽어 그래프를 만들고, 이후에는 그래프 버전(마지막으로 적용한 변경 순번) 이후의 변경 로그만 읽어 적용한다.
+ */
+@Service
+public class SubwayGraphService {
+    private LineRepository lineRepository;
+    private StationRepository stationRepository;
+    private NetworkChangeRepository networkChangeRepository;
+    private TransactionTemplate transactionTemplate;
+
+    private final AtomicLong latestVersion = new AtomicLong();
+    private volatile long checkedVersion = -1;
+    private volatile SubwayGraph graph;
+
+    public SubwayGraphService(LineRepository lineRepository, StationRepository stationRepository,
+                              NetworkChangeRepository networkChangeRepository,
+                              PlatformTransactionManager transactionManager) {
+        this.lineRepository = lineRepository;
+        this.stationRepository = stationRepository;
+        this.networkChangeRepository = networkChangeRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    public SubwayGraph getGraph() {
+        long checked = checkedVersion;
+        SubwayGraph current = graph;
+        if (current != null && checked == latestVersion.get()) {
+            return current;
+        }
+        return refresh();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void invalidate(NetworkChangedEvent event) {
+        latestVersion.incrementAndGet();
+    }
+
+    /**
+     * 다른 인스턴스가 남긴 변경처럼 이 인스턴스의 이벤트로는 알 수 없는 변경이 있으면 그래프를 미리 따라잡는다.
+     */
+    public void catchUp(long sequenceNumber) {
+        SubwayGraph current = graph;
+        if (current == null || current.getVersion() >= sequenceNumber) {
+            return;
+        }
+        latestVersion.incrementAndGet();
+        refresh();
+    }
+
+    @EventListener
+    public synchronized void reset(NetworkResetEvent event) {
+        graph = null;
+        latestVersion.incrementAndGet();
+    }
+
+    private synchronized SubwayGraph refresh() {
+        long version = latestVersion.get();
+        SubwayGraph current = graph;
+        if (current != null && checkedVersion == version) {
+            return current;
+        }
+
+        GraphRefreshEvent event = GraphRefreshEvent.start();
+        SubwayGraph refreshed = transactionTemplate.execute(status -> current == null ? load() : patch(current));
+        graph = refreshed;
+        checkedVersion = version;
+        if (refreshed != current) {
+            event.finish(current, refreshed);
+        }
+        return refreshed;
+    }
+
+    /**
+     * 순번을 먼저 읽고 전체를 읽으므로 그 사이에 커밋된 변경은 다음 patch 에서 한 번 더 적용될 수 있다. 변경은 다시 적용해도 결과가 같다.
+     */
+    private SubwayGraph load() {
+        long sequenceNumber = networkChangeRepository.findLatestSequenceNumber();
+        return SubwayGraph.of(sequenceNumber, stationRepository.findAll(), lineRepository.findAllWithSections());
+    }
+
+    private SubwayGraph patch(SubwayGraph current) {
+        List<NetworkChange> changes = networkChangeRepository.findBySequenceNumberGreaterThanOrderBySequenceNumber(current.getVersion());
+        if (changes.isEmpty()) {
+            return current;
+        }
+        return current.apply(changes.get(changes.size() - 1).getSequenceNumber(), changes);
+    }
+}
@@ -0,0 +1,57 @@
+package nextstep.subway.applicaion.dto;
+
+/**
+ * 노선 목록 응답. 서비스가 트랜잭션 안에서 노선과 역의 값만 배열로 옮겨 담고,
+ * ListResponseSerializers 가 LineResponse 목록을 만들지 않고 배열에서 바로 직렬화한다.
+ * line 번째 노선의 역은 stationStart(line) 부터 stationEnd(line) 전까지의 역 번호다.
+ */
+public class LineListResponse {
+    private long[] ids;
+    private String[] names;
+    private String[] colors;
+    private int[] surcharges;
+    private int[] stationOffsets;
+    private StationListResponse stations;
+
+    public LineListResponse(long[] ids, String[] names, String[] colors, int[] surcharges,
+                            int[] stationOffsets, StationListResponse stations) {
+        this.ids = ids;
+        this.names = names;
+        this.colors = colors;
+        this.surcharges = surcharges;
+        this.stationOffsets = stationOffsets;
+        this.stations = stations;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public long getId(int line) {
+        return ids[line];
+    }
+
+    public String getName(int line) {
+        return names[line];
+    }
+
+    public String getColor(int line) {
+        return colors[line];
+    }
+
+    public int getSurcharge(int line) {
+        return surcharges[line];
+    }
+
+    public int stationStart(int line) {
+        return stationOffsets[line];
+    }
+
+    public int stationEnd(int line) {
+        return stationOffsets[line + 1];
+    }
+
+    public StationListResponse getStations() {
+        return stations;
+    }
+}
@@ -3,9 +3,11 @@ package nextstep.subway.applicaion.dto;
 public class LineRequest {
     private String name;
     private String color;
+    private Integer surcharge;
     private Long upStationId;
     private Long downStationId;
     private int distance;
+    private int duration;
 
     public String getName() {
         return name;
@@ -15,6 +17,10 @@ public class LineRequest {
         return color;
     }
 
+    public Integer getSurcharge() {
+        return surcharge;
+    }
+
     public Long getUpStationId() {
         return upStationId;
     }
@@ -26,4 +32,8 @@ public class LineRequest {
     public int getDistance() {
         return distance;
     }
+
+    public int getDuration() {
+        return duration;
+    }
 }
@@ -6,12 +6,14 @@ public class LineResponse {
     private Long id;
     private String name;
     private String color;
+    private int surcharge;
     private List<StationResponse> stations;
 
-    public LineResponse(Long id, String name, String color, List<StationResponse> stations) {
+    public LineResponse(Long id, String name, String color, int surcharge, List<StationResponse> stations) {
         this.id = id;
         this.name = name;
         this.color = color;
+        this.surcharge = surcharge;
         this.stations = stations;
     }
 
@@ -27,6 +29,10 @@ public class LineResponse {
         return color;
     }
 
+    public int getSurcharge() {
+        return surcharge;
+    }
+
     public List<StationResponse> getStations() {
         return stations;
     }
@@ -0,0 +1,30 @@
+package nextstep.subway.applicaion.dto;
+
+import java.util.List;
+
+public class MeetingPointResponse {
+    private StationResponse station;
+    private int cost;
+    private List<Integer> distances;
+
+    public MeetingPointResponse() {
+    }
+
+    public MeetingPointResponse(StationResponse station, int cost, List<Integer> distances) {
+        this.station = station;
+        this.cost = cost;
+        this.distances = distances;
+    }
+
+    public StationResponse getStation() {
+        return station;
+    }
+
+    public int getCost() {
+        return cost;
+    }
+
+    public List<Integer> getDistances() {
+        return distances;
+    }
+}
@@ -0,0 +1,55 @@
+package nextstep.subway.applicaion.dto;
+
+import java.util.List;
+
+public class PathResponse {
+    private List<StationResponse> stations;
+    private int distance;
+    private int duration;
+    private int transfers;
+    private int fare;
+    private List<PathSegmentResponse> segments;
+    private List<StationResponse> transferStations;
+
+    public PathResponse() {
+    }
+
+    public PathResponse(List<StationResponse> stations, int distance, int duration, int transfers, int fare,
+                        List<PathSegmentResponse> segments, List<StationResponse> transferStations) {
+        this.stations = stations;
+        this.distance = distance;
+        this.duration = duration;
+        this.transfers = transfers;
+        this.fare = fare;
+        this.segments = segments;
+        this.transferStations = transferStations;
+    }
+
+    public List<StationResponse> getStations() {
+        return stations;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+
+    public int getDuration() {
+        return duration;
+    }
+
+    public int getTransfers() {
+        return transfers;
+    }
+
+    public int getFare() {
+        return fare;
+    }
+
+    public List<PathSegmentResponse> getSegments() {
+        return segments;
+    }
+
+    public List<StationResponse> getTransferStations() {
+        return transferStations;
+    }
+}
@@ -0,0 +1,47 @@
+package nextstep.subway.applicaion.dto;
+
+public class PathSegmentResponse {
+    private LineSummaryResponse line;
+    private StationResponse departure;
+    private StationResponse arrival;
+    private int sections;
+    private int distance;
+    private int duration;
+
+    public PathSegmentResponse() {
+    }
+
+    public PathSegmentResponse(LineSummaryResponse line, StationResponse departure, StationResponse arrival,
+                               int sections, int distance, int duration) {
+        this.line = line;
+        this.departure = departure;
+        this.arrival = arrival;
+        this.sections = sections;
+        this.distance = distance;
+        this.duration = duration;
+    }
+
+    public LineSummaryResponse getLine() {
+        return line;
+    }
+
+    public StationResponse getDeparture() {
+        return departure;
+    }
+
+    public StationResponse getArrival() {
+        return arrival;
+    }
+
+    public int getSections() {
+        return sections;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+
+    public int getDuration() {
+        return duration;
+    }
+}
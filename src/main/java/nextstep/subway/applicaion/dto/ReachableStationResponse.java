@@ -0,0 +1,28 @@
+package nextstep.subway.applicaion.dto;
+
+public class ReachableStationResponse {
+    private Long id;
+    private String name;
+    private int distance;
+
+    public ReachableStationResponse() {
+    }
+
+    public ReachableStationResponse(Long id, String name, int distance) {
+        this.id = id;
+        this.name = name;
+        this.distance = distance;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+}
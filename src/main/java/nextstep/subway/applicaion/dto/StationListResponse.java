@@ -0,0 +1,27 @@
+package nextstep.subway.applicaion.dto;
+
+/**
+ * 역 목록 응답. 서비스가 트랜잭션 안에서 역의 값만 배열로 옮겨 담고,
+ * ListResponseSerializers 가 StationResponse 목록을 만들지 않고 배열에서 바로 직렬화한다.
+ */
+public class StationListResponse {
+    private long[] ids;
+    private String[] names;
+
+    public StationListResponse(long[] ids, String[] names) {
+        this.ids = ids;
+        this.names = names;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public long getId(int index) {
+        return ids[index];
+    }
+
+    public String getName(int index) {
+        return names[index];
+    }
+}
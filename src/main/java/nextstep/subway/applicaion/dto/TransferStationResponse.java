@@ -0,0 +1,30 @@
+package nextstep.subway.applicaion.dto;
+
+import java.util.List;
+
+public class TransferStationResponse {
+    private Long id;
+    private String name;
+    private List<LineSummaryResponse> lines;
+
+    public TransferStationResponse() {
+    }
+
+    public TransferStationResponse(Long id, String name, List<LineSummaryResponse> lines) {
+        this.id = id;
+        this.name = name;
+        this.lines = lines;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<LineSummaryResponse> getLines() {
+        return lines;
+    }
+}
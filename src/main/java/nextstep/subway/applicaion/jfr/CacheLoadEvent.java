@@ -0,0 +1,50 @@
+package nextstep.subway.applicaion.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("nextstep.subway.CacheLoad")
+@Label("Cache Load")
+@Category({"Subway", "Cache"})
+@Description("그래프 버전이 바뀌어 캐시 항목을 새로 만든 한 번. 적중은 기록하지 않는다.")
+@StackTrace(false)
+public class CacheLoadEvent extends Event {
+    @Label("Cache")
+    String cache;
+
+    @Label("Key")
+    String key;
+
+    @Label("Graph Version")
+    long graphVersion;
+
+    @Label("Size")
+    @DataAmount
+    long bytes;
+
+    public static CacheLoadEvent start(String cache, String key) {
+        CacheLoadEvent event = new CacheLoadEvent();
+        event.cache = cache;
+        event.key = key;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * 크기를 잴 수 없는 항목은 bytes 를 -1 로 넘긴다.
+     */
+    public void finish(long graphVersion, long bytes) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+        this.graphVersion = graphVersion;
+        this.bytes = bytes;
+        commit();
+    }
+}
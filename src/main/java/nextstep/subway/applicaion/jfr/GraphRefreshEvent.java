@@ -0,0 +1,53 @@
+package nextstep.subway.applicaion.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import nextstep.subway.domain.SubwayGraph;
+
+@Name("nextstep.subway.GraphRefresh")
+@Label("Graph Refresh")
+@Category({"Subway", "Graph"})
+@Description("그래프 스냅샷을 전체 로딩하거나 변경 로그로 갱신해 새 버전을 게시한 한 번.")
+@StackTrace(false)
+public class GraphRefreshEvent extends Event {
+    @Label("Full Load")
+    boolean fullLoad;
+
+    @Label("Previous Version")
+    long previousVersion;
+
+    @Label("Version")
+    long version;
+
+    @Label("Stations")
+    int stations;
+
+    @Label("Sections")
+    int sections;
+
+    public static GraphRefreshEvent start() {
+        GraphRefreshEvent event = new GraphRefreshEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * 이전 스냅샷이 없으면 previous 는 null 이다.
+     */
+    public void finish(SubwayGraph previous, SubwayGraph refreshed) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+        this.fullLoad = previous == null;
+        this.previousVersion = previous != null ? previous.getVersion() : -1;
+        this.version = refreshed.getVersion();
+        this.stations = refreshed.stationCount();
+        this.sections = refreshed.sectionCount();
+        commit();
+    }
+}
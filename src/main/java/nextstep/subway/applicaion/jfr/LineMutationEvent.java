@@ -0,0 +1,41 @@
+package nextstep.subway.applicaion.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("nextstep.subway.LineMutation")
+@Label("Line Mutation")
+@Category({"Subway", "Line"})
+@Description("노선이나 구간을 바꾸는 서비스 호출 한 번. 트랜잭션 커밋 시간은 포함하지 않는다.")
+@StackTrace(false)
+public class LineMutationEvent extends Event {
+    @Label("Operation")
+    String operation;
+
+    @Label("Line Id")
+    long lineId;
+
+    @Label("Changed Sections")
+    int sections;
+
+    public static LineMutationEvent start(String operation) {
+        LineMutationEvent event = new LineMutationEvent();
+        event.operation = operation;
+        event.begin();
+        return event;
+    }
+
+    public void finish(long lineId, int sections) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+        this.lineId = lineId;
+        this.sections = sections;
+        commit();
+    }
+}
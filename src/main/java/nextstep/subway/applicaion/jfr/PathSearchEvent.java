@@ -0,0 +1,111 @@
+package nextstep.subway.applicaion.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import nextstep.subway.domain.Path;
+import nextstep.subway.domain.PathType;
+import nextstep.subway.domain.SubwayGraph;
+
+import java.util.List;
+
+@Name("nextstep.subway.PathSearch")
+@Label("Path Search")
+@Category({"Subway", "Path"})
+@Description("경로 검색 한 번. 확정한 역 수로 검색이 그래프를 얼마나 넓게 훑었는지 본다.")
+@StackTrace(false)
+public class PathSearchEvent extends Event {
+    @Label("Search")
+    String search;
+
+    @Label("Engine")
+    @Description("최단 경로 검색에 응답한 경로 엔진. 다른 검색은 비어 있다.")
+    String engine;
+
+    @Label("Graph Version")
+    long graphVersion;
+
+    @Label("Source Station")
+    long source;
+
+    @Label("Target Station")
+    long target;
+
+    @Label("Path Type")
+    String type;
+
+    @Label("Settled Stations")
+    @Description("확정한 역, (역, 노선) 상태 또는 라벨 수. 엔진이 세지 않으면 -1")
+    int settledStations;
+
+    @Label("Found")
+    boolean found;
+
+    @Label("Results")
+    @Description("찾은 경로나 역의 수")
+    int results;
+
+    @Label("Distance")
+    int distance;
+
+    @Label("Stations")
+    int stations;
+
+    public static PathSearchEvent start(Search search) {
+        PathSearchEvent event = new PathSearchEvent();
+        event.search = search.name();
+        event.begin();
+        return event;
+    }
+
+    public PathSearchEvent engine(String engine) {
+        this.engine = engine;
+        return this;
+    }
+
+    /**
+     * 경로를 찾지 못했으면 path 는 null 이다.
+     */
+    public void finish(SubwayGraph graph, long source, long target, PathType type, int settledStations, Path path) {
+        finish(graph, source, target, type, settledStations, path != null ? 1 : 0, path);
+    }
+
+    /**
+     * 경로를 찾지 못했으면 paths 는 null 이다. 거리와 역 수는 가장 짧은 첫 경로의 값이다.
+     */
+    public void finish(SubwayGraph graph, long source, long target, PathType type, int settledStations, List<Path> paths) {
+        boolean found = paths != null && !paths.isEmpty();
+        finish(graph, source, target, type, settledStations, found ? paths.size() : 0, found ? paths.get(0) : null);
+    }
+
+    /**
+     * 경로 없이 역을 찾는 검색. 도착역이 없으면 target 은 -1 이다.
+     */
+    public void finish(SubwayGraph graph, long source, long target, int settledStations, int results) {
+        finish(graph, source, target, null, settledStations, results, null);
+    }
+
+    private void finish(SubwayGraph graph, long source, long target, PathType type, int settledStations, int results, Path path) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+        this.graphVersion = graph.getVersion();
+        this.source = source;
+        this.target = target;
+        this.type = type != null ? type.name() : null;
+        this.settledStations = settledStations;
+        this.found = results > 0;
+        this.results = results;
+        this.distance = path != null ? path.getDistance() : -1;
+        this.stations = path != null ? path.getStations().length : 0;
+        commit();
+    }
+
+    public enum Search {
+        SHORTEST, FEWEST_TRANSFERS, TRANSFER_PENALTY, PARETO, REACHABLE_STATIONS, MEETING_POINT
+    }
+}
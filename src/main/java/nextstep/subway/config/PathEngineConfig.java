@@ -0,0 +1,22 @@
+package nextstep.subway.config;
+
+import nextstep.subway.applicaion.CompactPathEngine;
+import nextstep.subway.applicaion.JgraphtPathEngine;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 경로 엔진은 빈 이름으로 선택한다. 새 엔진은 PathEngine 빈을 하나 더 등록하면 된다.
+ */
+@Configuration
+public class PathEngineConfig {
+    @Bean("compact")
+    public CompactPathEngine compactPathEngine() {
+        return new CompactPathEngine();
+    }
+
+    @Bean("jgrapht")
+    public JgraphtPathEngine jgraphtPathEngine() {
+        return new JgraphtPathEngine();
+    }
+}
@@ -0,0 +1,45 @@
+package nextstep.subway.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * subway.datasource.replica-urls 에 복제본 주소를 쉼표로 나열하면 spring.datasource 를 주 데이터소스로,
+ * 나열한 주소를 읽기 전용 트랜잭션용 복제본으로 쓴다. 지정하지 않으면 Spring Boot 기본 데이터소스를 그대로 쓴다.
+ */
+@Configuration
+@ConditionalOnProperty("subway.datasource.replica-urls")
+public class ReplicaDataSourceConfig {
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(DataSourceProperties properties,
+                                                             @Value("${subway.datasource.replica-urls}") List<String> replicaUrls,
+                                                             @Value("${subway.datasource.max-lag:0}") long maxLag) {
+        DataSource primary = properties.initializeDataSourceBuilder().build();
+        List<DataSource> replicas = new ArrayList<>();
+        for (String url : replicaUrls) {
+            replicas.add(DataSourceBuilder.create()
+                    .driverClassName(properties.determineDriverClassName())
+                    .url(url.trim())
+                    .username(properties.determineUsername())
+                    .password(properties.determinePassword())
+                    .build());
+        }
+        return new ReplicaRoutingDataSource(primary, replicas, maxLag);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+}
@@ -0,0 +1,105 @@
+package nextstep.subway.config;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 트랜잭션은 복제본 중 하나로, 그 밖의 연결은 주 데이터소스로 보낸다.
+ * 트랜잭션 시작 후 첫 쿼리에서 연결을 고를 수 있도록 LazyConnectionDataSourceProxy 로 감싸서 쓴다.
+ * 복제본이 변경 로그 순번 기준으로 maxLag 보다 뒤처지거나 응답하지 않으면 다시 따라잡을 때까지 주 데이터소스로 읽는다.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    private static final String PRIMARY = "primary";
+    private static final String LATEST_SEQUENCE_NUMBER_SQL = "select coalesce(max(sequence_number), 0) from network_change";
+
+    private final DataSource primary;
+    private final List<DataSource> replicas;
+    private final long maxLag;
+    private final AtomicInteger next = new AtomicInteger();
+    private volatile boolean[] available;
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, long maxLag) {
+        this.primary = primary;
+        this.replicas = replicas;
+        this.maxLag = maxLag;
+        this.available = new boolean[replicas.size()];
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            targets.put(i, replicas.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (replicas.isEmpty() || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+        boolean[] current = available;
+        int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            int replica = (start + i) % replicas.size();
+            if (current[replica]) {
+                return replica;
+            }
+        }
+        return PRIMARY;
+    }
+
+    /**
+     * 주 데이터소스와 각 복제본의 변경 로그 마지막 순번을 비교해 복제본 사용 여부를 정한다.
+     */
+    @Scheduled(fixedDelayString = "${subway.datasource.lag-check-interval-millis:1000}")
+    public void checkLag() {
+        long latest = latestSequenceNumber(primary);
+        boolean[] checked = new boolean[replicas.size()];
+        for (int i = 0; i < replicas.size(); i++) {
+            checked[i] = isCaughtUp(replicas.get(i), latest, maxLag);
+        }
+        available = checked;
+    }
+
+    private static boolean isCaughtUp(DataSource replica, long latest, long maxLag) {
+        try {
+            return latest - latestSequenceNumber(replica) <= maxLag;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    private static long latestSequenceNumber(DataSource dataSource) {
+        return new JdbcTemplate(dataSource).queryForObject(LATEST_SEQUENCE_NUMBER_SQL, Long.class);
+    }
+
+    public boolean isAvailable(int replica) {
+        return available[replica];
+    }
+
+    public void close() throws IOException {
+        for (DataSource dataSource : targets()) {
+            if (dataSource instanceof Closeable) {
+                ((Closeable) dataSource).close();
+            }
+        }
+    }
+
+    private List<DataSource> targets() {
+        List<DataSource> targets = new ArrayList<>(replicas);
+        targets.add(primary);
+        return targets;
+    }
+}
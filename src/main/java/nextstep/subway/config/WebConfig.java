@@ -0,0 +1,37 @@
+package nextstep.subway.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import nextstep.subway.applicaion.PathSearchExecutor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.scheduling.concurrent.ConcurrentTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+    private static final long ASYNC_TIMEOUT_MARGIN_MILLIS = 1_000;
+
+    private PathSearchExecutor pathSearchExecutor;
+
+    public WebConfig(PathSearchExecutor pathSearchExecutor) {
+        this.pathSearchExecutor = pathSearchExecutor;
+    }
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    /**
+     * 스트리밍 응답처럼 MVC 가 직접 비동기로 실행하는 작업도 경로 검색 전용 스레드 풀을 따른다.
+     * MVC 제한 시간은 검색 제한 시간보다 여유를 두어 검색 쪽 TimeoutException 이 먼저 나도록 한다.
+     */
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(new ConcurrentTaskExecutor(pathSearchExecutor));
+        configurer.setDefaultTimeout(pathSearchExecutor.getTimeoutMillis() + ASYNC_TIMEOUT_MARGIN_MILLIS);
+    }
+}
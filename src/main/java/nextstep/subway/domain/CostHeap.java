@@ -0,0 +1,78 @@
+package nextstep.subway.domain;
+
+import java.util.Arrays;
+
+/**
+ * 비용이 int 범위를 넘을 수 있는 검색에 쓰는 최소 힙. 비용과 노드를 나란히 든 배열에 담고,
+ * DistanceHeap 처럼 비용이 같으면 노드 번호가 작은 쪽을 먼저 꺼낸다.
+ */
+class CostHeap {
+    private long[] costs;
+    private int[] nodes;
+    private int size;
+
+    CostHeap(int capacity) {
+        this.costs = new long[Math.max(capacity, 16)];
+        this.nodes = new int[costs.length];
+    }
+
+    void clear() {
+        size = 0;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    void push(long cost, int node) {
+        if (size == costs.length) {
+            costs = Arrays.copyOf(costs, size * 2);
+            nodes = Arrays.copyOf(nodes, size * 2);
+        }
+        int index = size++;
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!less(cost, node, costs[parent], nodes[parent])) {
+                break;
+            }
+            costs[index] = costs[parent];
+            nodes[index] = nodes[parent];
+            index = parent;
+        }
+        costs[index] = cost;
+        nodes[index] = node;
+    }
+
+    long peekCost() {
+        return costs[0];
+    }
+
+    int pop() {
+        int top = nodes[0];
+        long lastCost = costs[--size];
+        int lastNode = nodes[size];
+        int index = 0;
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            if (child + 1 < size && less(costs[child + 1], nodes[child + 1], costs[child], nodes[child])) {
+                child++;
+            }
+            if (!less(costs[child], nodes[child], lastCost, lastNode)) {
+                break;
+            }
+            costs[index] = costs[child];
+            nodes[index] = nodes[child];
+            index = child;
+        }
+        if (size > 0) {
+            costs[index] = lastCost;
+            nodes[index] = lastNode;
+        }
+        return top;
+    }
+
+    private static boolean less(long cost, int node, long otherCost, int otherNode) {
+        return cost < otherCost || cost == otherCost && node < otherNode;
+    }
+}
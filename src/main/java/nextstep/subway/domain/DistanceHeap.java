@@ -0,0 +1,67 @@
+package nextstep.subway.domain;
+
+import java.util.Arrays;
+
+class DistanceHeap {
+    private long[] entries;
+    private int size;
+
+    DistanceHeap(int capacity) {
+        this.entries = new long[Math.max(capacity, 16)];
+    }
+
+    void clear() {
+        size = 0;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    void push(int distance, int node) {
+        if (size == entries.length) {
+            entries = Arrays.copyOf(entries, size * 2);
+        }
+        long entry = ((long) distance << 32) | (node & 0xFFFFFFFFL);
+        int index = size++;
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (entries[parent] <= entry) {
+                break;
+            }
+            entries[index] = entries[parent];
+            index = parent;
+        }
+        entries[index] = entry;
+    }
+
+    long pop() {
+        long top = entries[0];
+        long last = entries[--size];
+        int index = 0;
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            if (child + 1 < size && entries[child + 1] < entries[child]) {
+                child++;
+            }
+            if (last <= entries[child]) {
+                break;
+            }
+            entries[index] = entries[child];
+            index = child;
+        }
+        if (size > 0) {
+            entries[index] = last;
+        }
+        return top;
+    }
+
+    static int distanceOf(long entry) {
+        return (int) (entry >>> 32);
+    }
+
+    static int nodeOf(long entry) {
+        return (int) entry;
+    }
+}
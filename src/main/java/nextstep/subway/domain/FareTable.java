@@ -0,0 +1,53 @@
+package nextstep.subway.domain;
+
+public class FareTable {
+    private static final int BASE_FARE = 1250;
+    private static final int BASE_DISTANCE = 10;
+    private static final int MIDDLE_DISTANCE = 50;
+    private static final int MIDDLE_DISTANCE_UNIT = 5;
+    private static final int LONG_DISTANCE_UNIT = 8;
+    private static final int UNIT_FARE = 100;
+    private static final int MAX_TABLE_DISTANCE = 100_000;
+
+    private final int[] distanceFares;
+
+    public FareTable(long maxDistance) {
+        this.distanceFares = new int[(int) Math.min(maxDistance, MAX_TABLE_DISTANCE) + 1];
+        for (int distance = 0; distance < distanceFares.length; distance++) {
+            distanceFares[distance] = calculateDistanceFare(distance);
+        }
+    }
+
+    /**
+     * 표가 이미 maxDistance 를 덮으면 그대로 쓰고, 아니면 구간을 하나씩 추가할 때마다 표를 다시 만들지 않도록 두 배 이상으로 키운다.
+     */
+    FareTable grow(long maxDistance) {
+        int covered = distanceFares.length - 1;
+        if (maxDistance <= covered || covered >= MAX_TABLE_DISTANCE) {
+            return this;
+        }
+        return new FareTable(Math.max(maxDistance, 2L * covered));
+    }
+
+    public int distanceFare(int distance) {
+        if (distance < distanceFares.length) {
+            return distanceFares[distance];
+        }
+        return calculateDistanceFare(distance);
+    }
+
+    static int calculateDistanceFare(int distance) {
+        if (distance <= BASE_DISTANCE) {
+            return BASE_FARE;
+        }
+        if (distance <= MIDDLE_DISTANCE) {
+            return BASE_FARE + units(distance - BASE_DISTANCE, MIDDLE_DISTANCE_UNIT) * UNIT_FARE;
+        }
+        return calculateDistanceFare(MIDDLE_DISTANCE)
+                + units(distance - MIDDLE_DISTANCE, LONG_DISTANCE_UNIT) * UNIT_FARE;
+    }
+
+    private static int units(int distance, int unit) {
+        return (distance - 1) / unit + 1;
+    }
+}
@@ -0,0 +1,66 @@
+package nextstep.subway.domain;
+
+import java.util.Arrays;
+
+class LabelHeap {
+    private long[] keys;
+    private int[] labels;
+    private int size;
+
+    LabelHeap(int capacity) {
+        this.keys = new long[Math.max(capacity, 16)];
+        this.labels = new int[keys.length];
+    }
+
+    void clear() {
+        size = 0;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    void push(long key, int label) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            labels = Arrays.copyOf(labels, size * 2);
+        }
+        int index = size++;
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (keys[parent] <= key) {
+                break;
+            }
+            keys[index] = keys[parent];
+            labels[index] = labels[parent];
+            index = parent;
+        }
+        keys[index] = key;
+        labels[index] = label;
+    }
+
+    int pop() {
+        int top = labels[0];
+        long lastKey = keys[--size];
+        int lastLabel = labels[size];
+        int index = 0;
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            if (child + 1 < size && keys[child + 1] < keys[child]) {
+                child++;
+            }
+            if (lastKey <= keys[child]) {
+                break;
+            }
+            keys[index] = keys[child];
+            labels[index] = labels[child];
+            index = child;
+        }
+        if (size > 0) {
+            keys[index] = lastKey;
+            labels[index] = lastLabel;
+        }
+        return top;
+    }
+}
@@ -11,6 +11,7 @@ public class Line {
     private Long id;
     private String name;
     private String color;
+    private int surcharge;
 
     @OneToMany(mappedBy = "line", cascade = {CascadeType.PERSIST, CascadeType.MERGE}, orphanRemoval = true)
     private List<Section> sections = new ArrayList<>();
@@ -19,8 +20,13 @@ public class Line {
     }
 
     public Line(String name, String color) {
+        this(name, color, 0);
+    }
+
+    public Line(String name, String color, int surcharge) {
         this.name = name;
         this.color = color;
+        this.surcharge = surcharge;
     }
 
     public Long getId() {
@@ -47,6 +53,14 @@ public class Line {
         this.color = color;
     }
 
+    public int getSurcharge() {
+        return surcharge;
+    }
+
+    public void setSurcharge(int surcharge) {
+        this.surcharge = surcharge;
+    }
+
     public List<Section> getSections() {
         return sections;
     }
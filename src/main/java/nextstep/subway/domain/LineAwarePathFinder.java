@@ -0,0 +1,132 @@
+package nextstep.subway.domain;
+
+import java.util.Arrays;
+
+public class LineAwarePathFinder {
+    private static final long UNREACHABLE = Long.MAX_VALUE;
+
+    private final SubwayGraph graph;
+    private final long[] costs;
+    private final int[] previousStates;
+    private final int[] previousSections;
+    private final CostHeap heap;
+    private int settledCount;
+
+    public LineAwarePathFinder(SubwayGraph graph) {
+        this.graph = graph;
+        this.costs = new long[graph.stateCount()];
+        this.previousStates = new int[graph.stateCount()];
+        this.previousSections = new int[graph.stateCount()];
+        this.heap = new CostHeap(graph.stateCount());
+    }
+
+    public Path findFewestTransfersPath(long sourceStationId, long targetStationId) {
+        return findPath(sourceStationId, targetStationId, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 환승 가중치가 전체 구간 거리 합보다 크면 어떤 거리 차이보다도 환승 한 번이 비싸므로 결과는 환승 최소 경로와 같다.
+     * 그래서 가중치를 전체 거리 합 + 1 로 줄여 계산한다. 환승이 많은 경로는 비용이 int 를 넘을 수 있어 비용은 long 으로 더한다.
+     */
+    public Path findPath(long sourceStationId, long targetStationId, int transferPenalty) {
+        if (sourceStationId == targetStationId) {
+            throw new IllegalArgumentException("출발역과 도착역이 같습니다.");
+        }
+        if (transferPenalty < 0) {
+            throw new IllegalArgumentException("환승 가중치는 0 이상이어야 합니다.");
+        }
+        int source = findStation(sourceStationId);
+        int target = findStation(targetStationId);
+
+        int targetState = search(source, target, Math.min(transferPenalty, graph.getTotalDistance() + 1));
+        if (targetState < 0) {
+            throw new IllegalArgumentException("출발역과 도착역이 연결되어 있지 않습니다.");
+        }
+        return createPath(targetState);
+    }
+
+    /**
+     * 마지막 검색에서 비용을 확정한 (역, 노선) 상태 수.
+     */
+    public int getSettledCount() {
+        return settledCount;
+    }
+
+    private int findStation(long stationId) {
+        int station = graph.findStationIndex(stationId);
+        if (station < 0) {
+            throw new IllegalArgumentException("존재하지 않는 역입니다: " + stationId);
+        }
+        return station;
+    }
+
+    private int search(int source, int target, long transferPenalty) {
+        Arrays.fill(costs, UNREACHABLE);
+        heap.clear();
+        settledCount = 0;
+
+        for (int state = graph.stateStart(source); state < graph.stateEnd(source); state++) {
+            costs[state] = 0;
+            previousStates[state] = -1;
+            previousSections[state] = -1;
+            heap.push(0, state);
+        }
+
+        int polls = 0;
+        while (!heap.isEmpty()) {
+            SearchInterruption.check(++polls);
+            long cost = heap.peekCost();
+            int state = heap.pop();
+            if (cost > costs[state]) {
+                continue;
+            }
+            settledCount++;
+            int station = graph.stateStation(state);
+            if (station == target) {
+                return state;
+            }
+            relax(state, station, cost, transferPenalty);
+        }
+        return -1;
+    }
+
+    private void relax(int state, int station, long cost, long transferPenalty) {
+        int line = graph.stateLine(state);
+        for (int adjacency = graph.adjacencyStart(station); adjacency < graph.adjacencyEnd(station); adjacency++) {
+            int section = graph.adjacentSection(adjacency);
+            int next = graph.adjacentState(adjacency);
+            long nextCost = cost + graph.sectionDistance(section);
+            if (graph.sectionLine(section) != line && previousStates[state] >= 0) {
+                nextCost += transferPenalty;
+            }
+            if (nextCost < costs[next]) {
+                costs[next] = nextCost;
+                previousStates[next] = state;
+                previousSections[next] = section;
+                heap.push(nextCost, next);
+            }
+        }
+    }
+
+    private Path createPath(int targetState) {
+        int hops = 0;
+        for (int state = targetState; previousStates[state] >= 0; state = previousStates[state]) {
+            hops++;
+        }
+
+        int[] stations = new int[hops + 1];
+        int[] sections = new int[hops];
+        int distance = 0;
+        int duration = 0;
+        int state = targetState;
+        for (int i = hops; i > 0; i--) {
+            stations[i] = graph.stateStation(state);
+            sections[i - 1] = previousSections[state];
+            distance += graph.sectionDistance(previousSections[state]);
+            duration += graph.sectionDuration(previousSections[state]);
+            state = previousStates[state];
+        }
+        stations[0] = graph.stateStation(state);
+        return new Path(stations, sections, distance, duration);
+    }
+}
@@ -1,10 +1,14 @@
 package nextstep.subway.domain;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 
 public interface LineRepository extends JpaRepository<Line, Long> {
     @Override
     List<Line> findAll();
+
+    @Query("select distinct l from Line l left join fetch l.sections s order by l.id, s.id")
+    List<Line> findAllWithSections();
 }
\ No newline at end of file
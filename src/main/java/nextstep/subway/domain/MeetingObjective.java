@@ -0,0 +1,5 @@
+package nextstep.subway.domain;
+
+public enum MeetingObjective {
+    MAX, TOTAL
+}
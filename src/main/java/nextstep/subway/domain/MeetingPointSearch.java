@@ -0,0 +1,104 @@
+package nextstep.subway.domain;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 여러 출발역에서 동시에 진행하는 단일 출발 검색의 결과를 모아 만나기 좋은 역을 고른다.
+ * 출발역마다 검색은 서로 다른 스레드에서 visit 을 호출하며, 모든 출발역에서 확정된 역이 생길 때마다 최선값을 갱신한다.
+ * 최대 거리와 거리 합 모두 한 출발역에서의 거리보다 작을 수 없으므로, 현재 최선값보다 멀어진 검색은 더 진행할 필요가 없다.
+ */
+public class MeetingPointSearch {
+    private static final long NOT_FOUND = Long.MAX_VALUE;
+
+    private final MeetingObjective objective;
+    private final long[] originIds;
+    private final int[][] distances;
+    private final AtomicIntegerArray settledCounts;
+    private final AtomicLong best = new AtomicLong(NOT_FOUND);
+
+    public MeetingPointSearch(SubwayGraph graph, List<Long> originStationIds, MeetingObjective objective) {
+        if (originStationIds.size() < 2) {
+            throw new IllegalArgumentException("출발역은 두 개 이상이어야 합니다.");
+        }
+        this.objective = objective;
+        this.originIds = new long[originStationIds.size()];
+        for (int i = 0; i < originIds.length; i++) {
+            long originId = originStationIds.get(i);
+            if (graph.findStationIndex(originId) < 0) {
+                throw new IllegalArgumentException("존재하지 않는 역입니다: " + originId);
+            }
+            originIds[i] = originId;
+        }
+        this.distances = new int[originIds.length][graph.stationCount()];
+        this.settledCounts = new AtomicIntegerArray(graph.stationCount());
+    }
+
+    public int originCount() {
+        return originIds.length;
+    }
+
+    public long originId(int origin) {
+        return originIds[origin];
+    }
+
+    /**
+     * origin 번째 출발역의 검색이 station 을 distance 로 확정했을 때 호출한다. false 를 돌려주면 그 검색은 멈춰도 된다.
+     */
+    public boolean visit(int origin, int station, int distance) {
+        if (distance > bound()) {
+            return false;
+        }
+        distances[origin][station] = distance;
+        if (settledCounts.incrementAndGet(station) == originIds.length) {
+            offer(station);
+        }
+        return true;
+    }
+
+    public boolean isFound() {
+        return best.get() != NOT_FOUND;
+    }
+
+    public int getStation() {
+        return (int) best.get();
+    }
+
+    public int getCost() {
+        return (int) (best.get() >>> 32);
+    }
+
+    public int distanceFrom(int origin) {
+        return distances[origin][getStation()];
+    }
+
+    private int bound() {
+        return (int) (best.get() >>> 32);
+    }
+
+    /**
+     * 비용을 상위 32비트, 역 번호를 하위 32비트에 담아 한 번의 min 연산으로 비용이 같을 때 번호가 작은 역을 고른다.
+     */
+    private void offer(int station) {
+        long cost = objective == MeetingObjective.MAX ? maxDistance(station) : totalDistance(station);
+        long candidate = (Math.min(cost, Integer.MAX_VALUE - 1) << 32) | station;
+        best.accumulateAndGet(candidate, Math::min);
+    }
+
+    private long maxDistance(int station) {
+        int max = 0;
+        for (int[] row : distances) {
+            max = Math.max(max, row[station]);
+        }
+        return max;
+    }
+
+    private long totalDistance(int station) {
+        long total = 0;
+        for (int[] row : distances) {
+            total += row[station];
+        }
+        return total;
+    }
+}
@@ -0,0 +1,147 @@
+package nextstep.subway.domain;
+
+import javax.persistence.*;
+
+/**
+ * 역, 노선, 구간의 변경을 한 건씩 남기는 추가 전용 로그. sequenceNumber 순서대로 적용하면 지하철 그래프를 따라잡을 수 있다.
+ */
+@Entity
+public class NetworkChange {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(unique = true)
+    private long sequenceNumber;
+
+    @Enumerated(EnumType.STRING)
+    private NetworkChangeType type;
+
+    private Long stationId;
+    private Long lineId;
+    private Long sectionId;
+    private String name;
+    private String color;
+    private Integer surcharge;
+    private Long upStationId;
+    private Long downStationId;
+    private Integer distance;
+    private Integer duration;
+
+    protected NetworkChange() {
+    }
+
+    private NetworkChange(NetworkChangeType type) {
+        this.type = type;
+    }
+
+    public static NetworkChange stationAdded(Station station) {
+        NetworkChange change = new NetworkChange(NetworkChangeType.STATION_ADDED);
+        change.stationId = station.getId();
+        change.name = station.getName();
+        return change;
+    }
+
+    public static NetworkChange stationRemoved(Long stationId) {
+        NetworkChange change = new NetworkChange(NetworkChangeType.STATION_REMOVED);
+        change.stationId = stationId;
+        return change;
+    }
+
+    public static NetworkChange lineAdded(Line line) {
+        return lineChange(NetworkChangeType.LINE_ADDED, line);
+    }
+
+    public static NetworkChange lineUpdated(Line line) {
+        return lineChange(NetworkChangeType.LINE_UPDATED, line);
+    }
+
+    private static NetworkChange lineChange(NetworkChangeType type, Line line) {
+        NetworkChange change = new NetworkChange(type);
+        change.lineId = line.getId();
+        change.name = line.getName();
+        change.color = line.getColor();
+        change.surcharge = line.getSurcharge();
+        return change;
+    }
+
+    public static NetworkChange lineRemoved(Long lineId) {
+        NetworkChange change = new NetworkChange(NetworkChangeType.LINE_REMOVED);
+        change.lineId = lineId;
+        return change;
+    }
+
+    public static NetworkChange sectionAdded(Section section) {
+        NetworkChange change = new NetworkChange(NetworkChangeType.SECTION_ADDED);
+        change.sectionId = section.getId();
+        change.lineId = section.getLine().getId();
+        change.upStationId = section.getUpStation().getId();
+        change.downStationId = section.getDownStation().getId();
+        change.distance = section.getDistance();
+        change.duration = section.getDuration();
+        return change;
+    }
+
+    public static NetworkChange sectionRemoved(Section section) {
+        NetworkChange change = new NetworkChange(NetworkChangeType.SECTION_REMOVED);
+        change.sectionId = section.getId();
+        change.lineId = section.getLine().getId();
+        return change;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public long getSequenceNumber() {
+        return sequenceNumber;
+    }
+
+    public void setSequenceNumber(long sequenceNumber) {
+        this.sequenceNumber = sequenceNumber;
+    }
+
+    public NetworkChangeType getType() {
+        return type;
+    }
+
+    public Long getStationId() {
+        return stationId;
+    }
+
+    public Long getLineId() {
+        return lineId;
+    }
+
+    public Long getSectionId() {
+        return sectionId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getColor() {
+        return color;
+    }
+
+    public Integer getSurcharge() {
+        return surcharge;
+    }
+
+    public Long getUpStationId() {
+        return upStationId;
+    }
+
+    public Long getDownStationId() {
+        return downStationId;
+    }
+
+    public Integer getDistance() {
+        return distance;
+    }
+
+    public Integer getDuration() {
+        return duration;
+    }
+}
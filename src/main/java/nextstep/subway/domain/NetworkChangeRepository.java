@@ -0,0 +1,13 @@
+package nextstep.subway.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface NetworkChangeRepository extends JpaRepository<NetworkChange, Long> {
+    List<NetworkChange> findBySequenceNumberGreaterThanOrderBySequenceNumber(long sequenceNumber);
+
+    @Query("select coalesce(max(c.sequenceNumber), 0) from NetworkChange c")
+    long findLatestSequenceNumber();
+}
@@ -0,0 +1,7 @@
+package nextstep.subway.domain;
+
+public enum NetworkChangeType {
+    STATION_ADDED, STATION_REMOVED,
+    LINE_ADDED, LINE_UPDATED, LINE_REMOVED,
+    SECTION_ADDED, SECTION_REMOVED
+}
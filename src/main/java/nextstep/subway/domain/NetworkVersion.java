@@ -0,0 +1,32 @@
+package nextstep.subway.domain;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+/**
+ * 변경 로그의 순번을 발급하는 단일 행. 쓰기 트랜잭션이 이 행을 잠근 채 커밋하므로 순번 순서와 커밋 순서가 같아진다.
+ */
+@Entity
+public class NetworkVersion {
+    public static final Long ID = 1L;
+
+    @Id
+    private Long id;
+    private long version;
+
+    public NetworkVersion() {
+        this.id = ID;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public long next() {
+        return ++version;
+    }
+}
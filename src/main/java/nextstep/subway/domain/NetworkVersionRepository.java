@@ -0,0 +1,12 @@
+package nextstep.subway.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+
+import javax.persistence.LockModeType;
+import java.util.Optional;
+
+public interface NetworkVersionRepository extends JpaRepository<NetworkVersion, Long> {
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<NetworkVersion> findWithLockById(Long id);
+}
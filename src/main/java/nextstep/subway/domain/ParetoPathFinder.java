@@ -0,0 +1,147 @@
+package nextstep.subway.domain;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * (거리, 소요 시간) 두 기준에서 서로 지배되지 않는 경로를 모두 찾는 label-setting 검색.
+ * 라벨을 거리 우선 사전순으로 꺼내므로 먼저 확정된 라벨은 거리가 항상 짧거나 같다.
+ * 따라서 역마다 확정된 라벨의 최소 소요 시간 하나만 기억하면 지배 여부를 판단할 수 있다.
+ */
+public class ParetoPathFinder {
+    private static final int UNSETTLED = Integer.MAX_VALUE;
+
+    private final SubwayGraph graph;
+    private final int[] settledDurations;
+    private final LabelHeap heap;
+
+    private int[] labelStations;
+    private int[] labelDistances;
+    private int[] labelDurations;
+    private int[] labelParents;
+    private int[] labelSections;
+    private int labelCount;
+    private int settledCount;
+
+    public ParetoPathFinder(SubwayGraph graph) {
+        this.graph = graph;
+        this.settledDurations = new int[graph.stationCount()];
+        this.heap = new LabelHeap(graph.stationCount() * 2);
+
+        int capacity = Math.max(16, graph.stationCount() * 2);
+        this.labelStations = new int[capacity];
+        this.labelDistances = new int[capacity];
+        this.labelDurations = new int[capacity];
+        this.labelParents = new int[capacity];
+        this.labelSections = new int[capacity];
+    }
+
+    public List<Path> findParetoPaths(long sourceStationId, long targetStationId) {
+        if (sourceStationId == targetStationId) {
+            throw new IllegalArgumentException("출발역과 도착역이 같습니다.");
+        }
+        int source = findStation(sourceStationId);
+        int target = findStation(targetStationId);
+
+        List<Path> paths = new ArrayList<>();
+        Arrays.fill(settledDurations, UNSETTLED);
+        heap.clear();
+        labelCount = 0;
+        settledCount = 0;
+
+        heap.push(0L, addLabel(source, 0, 0, -1, -1));
+        int polls = 0;
+        while (!heap.isEmpty()) {
+            SearchInterruption.check(++polls);
+            int label = heap.pop();
+            int station = labelStations[label];
+            int duration = labelDurations[label];
+            if (duration >= settledDurations[station] || duration >= settledDurations[target]) {
+                continue;
+            }
+            settledDurations[station] = duration;
+            settledCount++;
+            if (station == target) {
+                paths.add(createPath(label));
+                continue;
+            }
+            relax(label, station, target);
+        }
+
+        if (paths.isEmpty()) {
+            throw new IllegalArgumentException("출발역과 도착역이 연결되어 있지 않습니다.");
+        }
+        return paths;
+    }
+
+    /**
+     * 마지막 검색에서 확정한 라벨 수. 한 역에 서로 지배되지 않는 라벨이 여럿 확정될 수 있다.
+     */
+    public int getSettledCount() {
+        return settledCount;
+    }
+
+    private int findStation(long stationId) {
+        int station = graph.findStationIndex(stationId);
+        if (station < 0) {
+            throw new IllegalArgumentException("존재하지 않는 역입니다: " + stationId);
+        }
+        return station;
+    }
+
+    private void relax(int label, int station, int target) {
+        int distance = labelDistances[label];
+        int duration = labelDurations[label];
+        for (int adjacency = graph.adjacencyStart(station); adjacency < graph.adjacencyEnd(station); adjacency++) {
+            int next = graph.adjacentStation(adjacency);
+            int section = graph.adjacentSection(adjacency);
+            int nextDuration = duration + graph.sectionDuration(section);
+            if (nextDuration >= settledDurations[next] || nextDuration >= settledDurations[target]) {
+                continue;
+            }
+            int nextDistance = distance + graph.sectionDistance(section);
+            heap.push(key(nextDistance, nextDuration), addLabel(next, nextDistance, nextDuration, label, section));
+        }
+    }
+
+    private static long key(int distance, int duration) {
+        return ((long) distance << 32) | duration;
+    }
+
+    private int addLabel(int station, int distance, int duration, int parent, int section) {
+        if (labelCount == labelStations.length) {
+            int capacity = labelCount * 2;
+            labelStations = Arrays.copyOf(labelStations, capacity);
+            labelDistances = Arrays.copyOf(labelDistances, capacity);
+            labelDurations = Arrays.copyOf(labelDurations, capacity);
+            labelParents = Arrays.copyOf(labelParents, capacity);
+            labelSections = Arrays.copyOf(labelSections, capacity);
+        }
+        labelStations[labelCount] = station;
+        labelDistances[labelCount] = distance;
+        labelDurations[labelCount] = duration;
+        labelParents[labelCount] = parent;
+        labelSections[labelCount] = section;
+        return labelCount++;
+    }
+
+    private Path createPath(int targetLabel) {
+        int hops = 0;
+        for (int label = targetLabel; labelParents[label] >= 0; label = labelParents[label]) {
+            hops++;
+        }
+
+        int[] stations = new int[hops + 1];
+        int[] sections = new int[hops];
+        int label = targetLabel;
+        for (int i = hops; i >= 0; i--) {
+            stations[i] = labelStations[label];
+            if (i > 0) {
+                sections[i - 1] = labelSections[label];
+            }
+            label = labelParents[label];
+        }
+        return new Path(stations, sections, labelDistances[targetLabel], labelDurations[targetLabel]);
+    }
+}
@@ -0,0 +1,31 @@
+package nextstep.subway.domain;
+
+public class Path {
+    private final int[] stations;
+    private final int[] sections;
+    private final int distance;
+    private final int duration;
+
+    public Path(int[] stations, int[] sections, int distance, int duration) {
+        this.stations = stations;
+        this.sections = sections;
+        this.distance = distance;
+        this.duration = duration;
+    }
+
+    public int[] getStations() {
+        return stations;
+    }
+
+    public int[] getSections() {
+        return sections;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+
+    public int getDuration() {
+        return duration;
+    }
+}
@@ -0,0 +1,17 @@
+package nextstep.subway.domain;
+
+/**
+ * 지하철 그래프에서 두 역 사이의 최단 경로를 찾는 엔진.
+ * 구현은 같은 그래프와 같은 기준에 대해 가중치 합이 같은 경로를 돌려줘야 하고,
+ * 같은 역이거나 없는 역이거나 연결되지 않은 역이면 IllegalArgumentException 을 던진다.
+ */
+public interface PathEngine {
+    Path findShortestPath(SubwayGraph graph, long sourceStationId, long targetStationId, PathType type);
+
+    /**
+     * 같은 스레드에서 이 그래프로 마지막에 실행한 검색이 확정한 역 수. 엔진이 세지 않으면 -1 이다.
+     */
+    default int getSettledCount(SubwayGraph graph) {
+        return -1;
+    }
+}
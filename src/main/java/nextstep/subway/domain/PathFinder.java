@@ -0,0 +1,143 @@
+package nextstep.subway.domain;
+
+import java.util.Arrays;
+
+public class PathFinder {
+    private static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    private final SubwayGraph graph;
+    private final int[] distances;
+    private final int[] previousSections;
+    private final DistanceHeap heap;
+    private int settledCount;
+
+    public PathFinder(SubwayGraph graph) {
+        this.graph = graph;
+        this.distances = new int[graph.stationCount()];
+        this.previousSections = new int[graph.stationCount()];
+        this.heap = new DistanceHeap(graph.stationCount());
+    }
+
+    public Path findShortestPath(long sourceStationId, long targetStationId) {
+        return findShortestPath(sourceStationId, targetStationId, PathType.DISTANCE);
+    }
+
+    public Path findShortestPath(long sourceStationId, long targetStationId, PathType type) {
+        if (sourceStationId == targetStationId) {
+            throw new IllegalArgumentException("출발역과 도착역이 같습니다.");
+        }
+        int source = findStation(sourceStationId);
+        int target = findStation(targetStationId);
+
+        search(source, target, type, UNREACHABLE, null);
+
+        if (distances[target] == UNREACHABLE) {
+            throw new IllegalArgumentException("출발역과 도착역이 연결되어 있지 않습니다.");
+        }
+        return createPath(source, target);
+    }
+
+    /**
+     * 출발역에서 maxDistance 이내의 역을 거리가 가까운 순서대로 consumer 에 넘긴다.
+     * 예산을 넘는 역은 힙에 넣지 않으므로 검색은 예산 안쪽에서 끝난다.
+     */
+    public void findReachableStations(long sourceStationId, int maxDistance, StationDistanceConsumer consumer) {
+        if (maxDistance < 0) {
+            throw new IllegalArgumentException("최대 거리는 0 이상이어야 합니다.");
+        }
+        int source = findStation(sourceStationId);
+
+        search(source, -1, PathType.DISTANCE, maxDistance, (station, distance) -> {
+            consumer.accept(station, distance);
+            return true;
+        });
+    }
+
+    /**
+     * 출발역에서 가까운 순서대로 역을 visitor 에 넘기고, visitor 가 false 를 돌려주면 검색을 멈춘다.
+     */
+    public void visitStations(long sourceStationId, StationVisitor visitor) {
+        int source = findStation(sourceStationId);
+
+        search(source, -1, PathType.DISTANCE, UNREACHABLE, visitor);
+    }
+
+    /**
+     * 마지막 검색에서 거리를 확정한 역 수.
+     */
+    public int getSettledCount() {
+        return settledCount;
+    }
+
+    private int findStation(long stationId) {
+        int station = graph.findStationIndex(stationId);
+        if (station < 0) {
+            throw new IllegalArgumentException("존재하지 않는 역입니다: " + stationId);
+        }
+        return station;
+    }
+
+    private void search(int source, int target, PathType type, int maxDistance, StationVisitor visitor) {
+        Arrays.fill(distances, UNREACHABLE);
+        Arrays.fill(previousSections, -1);
+        heap.clear();
+        settledCount = 0;
+
+        distances[source] = 0;
+        heap.push(0, source);
+        int polls = 0;
+        while (!heap.isEmpty()) {
+            SearchInterruption.check(++polls);
+            long entry = heap.pop();
+            int station = DistanceHeap.nodeOf(entry);
+            int distance = DistanceHeap.distanceOf(entry);
+            if (distance > distances[station]) {
+                continue;
+            }
+            settledCount++;
+            if (visitor != null && !visitor.visit(station, distance)) {
+                return;
+            }
+            if (station == target) {
+                return;
+            }
+            relax(station, distance, type, maxDistance);
+        }
+    }
+
+    private void relax(int station, int distance, PathType type, int maxDistance) {
+        for (int adjacency = graph.adjacencyStart(station); adjacency < graph.adjacencyEnd(station); adjacency++) {
+            int next = graph.adjacentStation(adjacency);
+            int section = graph.adjacentSection(adjacency);
+            int nextDistance = distance + graph.sectionWeight(section, type);
+            if (nextDistance <= maxDistance && nextDistance < distances[next]) {
+                distances[next] = nextDistance;
+                previousSections[next] = section;
+                heap.push(nextDistance, next);
+            }
+        }
+    }
+
+    private Path createPath(int source, int target) {
+        int hops = 0;
+        for (int station = target; station != source; station = graph.otherEnd(previousSections[station], station)) {
+            hops++;
+        }
+
+        int[] stations = new int[hops + 1];
+        int[] sections = new int[hops];
+        int distance = 0;
+        int duration = 0;
+        int station = target;
+        for (int i = hops; i > 0; i--) {
+            int section = previousSections[station];
+            stations[i] = station;
+            sections[i - 1] = section;
+            distance += graph.sectionDistance(section);
+            duration += graph.sectionDuration(section);
+            station = graph.otherEnd(section, station);
+        }
+        stations[0] = source;
+        return new Path(stations, sections, distance, duration);
+    }
+}
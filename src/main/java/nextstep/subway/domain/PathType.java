@@ -0,0 +1,7 @@
+package nextstep.subway.domain;
+
+public enum PathType {
+    DISTANCE,
+    DURATION,
+    TRANSFER
+}
@@ -0,0 +1,19 @@
+package nextstep.subway.domain;
+
+import java.util.concurrent.CancellationException;
+
+/**
+ * 제한 시간을 넘겨 취소된 검색이 스레드를 끝까지 붙잡지 않도록, 힙에서 일정 횟수를 꺼낼 때마다 스레드 중단 여부를 본다.
+ */
+final class SearchInterruption {
+    private static final int CHECK_MASK = 1023;
+
+    private SearchInterruption() {
+    }
+
+    static void check(int polls) {
+        if ((polls & CHECK_MASK) == 0 && Thread.currentThread().isInterrupted()) {
+            throw new CancellationException("경로 검색이 중단되었습니다.");
+        }
+    }
+}
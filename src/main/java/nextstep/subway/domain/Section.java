@@ -3,6 +3,13 @@ package nextstep.subway.domain;
 import javax.persistence.*;
 
 @Entity
+@Table(
+        uniqueConstraints = @UniqueConstraint(name = "uk_section_line_stations", columnNames = {"line_id", "up_station_id", "down_station_id"}),
+        indexes = {
+                @Index(name = "idx_section_up_station", columnList = "up_station_id"),
+                @Index(name = "idx_section_down_station", columnList = "down_station_id")
+        }
+)
 public class Section {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -22,15 +29,22 @@ public class Section {
 
     private int distance;
 
+    private int duration;
+
     public Section() {
 
     }
 
     public Section(Line line, Station upStation, Station downStation, int distance) {
+        this(line, upStation, downStation, distance, 0);
+    }
+
+    public Section(Line line, Station upStation, Station downStation, int distance, int duration) {
         this.line = line;
         this.upStation = upStation;
         this.downStation = downStation;
         this.distance = distance;
+        this.duration = duration;
     }
 
     public Long getId() {
@@ -52,4 +66,8 @@ public class Section {
     public int getDistance() {
         return distance;
     }
+
+    public int getDuration() {
+        return duration;
+    }
 }
\ No newline at end of file
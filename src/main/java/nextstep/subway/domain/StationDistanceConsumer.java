@@ -0,0 +1,6 @@
+package nextstep.subway.domain;
+
+@FunctionalInterface
+public interface StationDistanceConsumer {
+    void accept(int station, int distance);
+}
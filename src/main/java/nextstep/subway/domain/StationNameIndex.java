@@ -0,0 +1,131 @@
+package nextstep.subway.domain;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 이름순(같은 이름이면 id 순)으로 정렬한 역 배열. 접두어 검색은 이진 탐색으로 시작 위치를 찾은 뒤 limit 개까지만 훑는다.
+ * 변경은 새 인덱스를 돌려주므로 읽는 쪽은 잠금 없이 이전 인덱스를 계속 쓸 수 있다.
+ */
+public class StationNameIndex {
+    private final long[] ids;
+    private final String[] names;
+
+    private StationNameIndex(long[] ids, String[] names) {
+        this.ids = ids;
+        this.names = names;
+    }
+
+    public static StationNameIndex of(List<Station> stations) {
+        Station[] sorted = stations.stream()
+                .sorted((a, b) -> compare(a.getName(), a.getId(), b.getName(), b.getId()))
+                .toArray(Station[]::new);
+
+        long[] ids = new long[sorted.length];
+        String[] names = new String[sorted.length];
+        for (int i = 0; i < sorted.length; i++) {
+            ids[i] = sorted[i].getId();
+            names[i] = sorted[i].getName();
+        }
+        return new StationNameIndex(ids, names);
+    }
+
+    public StationNameIndex add(long id, String name) {
+        StationNameIndex index = remove(id);
+        int position = index.insertionPoint(name, id);
+
+        long[] ids = new long[index.size() + 1];
+        String[] names = new String[index.size() + 1];
+        System.arraycopy(index.ids, 0, ids, 0, position);
+        System.arraycopy(index.names, 0, names, 0, position);
+        ids[position] = id;
+        names[position] = name;
+        System.arraycopy(index.ids, position, ids, position + 1, index.size() - position);
+        System.arraycopy(index.names, position, names, position + 1, index.size() - position);
+        return new StationNameIndex(ids, names);
+    }
+
+    public StationNameIndex remove(long id) {
+        int position = positionOf(id);
+        if (position < 0) {
+            return this;
+        }
+
+        long[] ids = Arrays.copyOf(this.ids, size() - 1);
+        String[] names = Arrays.copyOf(this.names, size() - 1);
+        System.arraycopy(this.ids, position + 1, ids, position, size() - position - 1);
+        System.arraycopy(this.names, position + 1, names, position, size() - position - 1);
+        return new StationNameIndex(ids, names);
+    }
+
+    /**
+     * prefix 로 시작하는 역의 위치를 이름순으로 최대 limit 개 돌려준다.
+     */
+    public int[] search(String prefix, int limit) {
+        int from = lowerBound(prefix);
+        int to = from;
+        while (to < size() && to - from < limit && names[to].startsWith(prefix)) {
+            to++;
+        }
+
+        int[] positions = new int[to - from];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = from + i;
+        }
+        return positions;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public long stationId(int position) {
+        return ids[position];
+    }
+
+    public String stationName(int position) {
+        return names[position];
+    }
+
+    private int positionOf(long id) {
+        for (int i = 0; i < ids.length; i++) {
+            if (ids[i] == id) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int lowerBound(String prefix) {
+        int low = 0;
+        int high = size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (names[middle].compareTo(prefix) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private int insertionPoint(String name, long id) {
+        int low = 0;
+        int high = size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (compare(names[middle], ids[middle], name, id) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static int compare(String name, long id, String otherName, long otherId) {
+        int result = name.compareTo(otherName);
+        return result != 0 ? result : Long.compare(id, otherId);
+    }
+}
@@ -0,0 +1,6 @@
+package nextstep.subway.domain;
+
+@FunctionalInterface
+public interface StationVisitor {
+    boolean visit(int station, int distance);
+}
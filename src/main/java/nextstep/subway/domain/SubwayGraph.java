@@ -0,0 +1,422 @@
+package nextstep.subway.domain;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+public class SubwayGraph {
+    private static final int PARALLEL_THRESHOLD = 4096;
+
+    final long version;
+
+    final long[] stationIds;
+    final String[] stationNames;
+
+    final long[] lineIds;
+    final String[] lineNames;
+    final String[] lineColors;
+    final int[] lineSurcharges;
+
+    final long[] sectionIds;
+    final int[] sectionLines;
+    final int[] sectionUpStations;
+    final int[] sectionDownStations;
+    final int[] sectionDistances;
+    final int[] sectionDurations;
+    final long totalDistance;
+
+    final int[] offsets;
+    final int[] adjacentStations;
+    final int[] adjacentSections;
+
+    final int[] stateOffsets;
+    final int[] stateLines;
+    final int[] stateStations;
+    final int[] adjacentStates;
+
+    final FareTable fareTable;
+
+    SubwayGraph(long version, long[] stationIds, String[] stationNames,
+                long[] lineIds, String[] lineNames, String[] lineColors, int[] lineSurcharges,
+                long[] sectionIds, int[] sectionLines, int[] sectionUpStations, int[] sectionDownStations,
+                int[] sectionDistances, int[] sectionDurations) {
+        this.version = version;
+        this.stationIds = stationIds;
+        this.stationNames = stationNames;
+        this.lineIds = lineIds;
+        this.lineNames = lineNames;
+        this.lineColors = lineColors;
+        this.lineSurcharges = lineSurcharges;
+        this.sectionIds = sectionIds;
+        this.sectionLines = sectionLines;
+        this.sectionUpStations = sectionUpStations;
+        this.sectionDownStations = sectionDownStations;
+        this.sectionDistances = sectionDistances;
+        this.sectionDurations = sectionDurations;
+        this.totalDistance = range(sectionDistances.length).mapToLong(section -> sectionDistances[section]).sum();
+
+        this.offsets = new int[stationIds.length + 1];
+        this.adjacentStations = new int[sectionIds.length * 2];
+        this.adjacentSections = new int[sectionIds.length * 2];
+        fillAdjacency();
+
+        this.stateOffsets = new int[stationIds.length + 1];
+        this.stateLines = fillStateLines();
+        this.stateStations = new int[stateLines.length];
+        this.adjacentStates = new int[adjacentStations.length];
+        fillStates();
+
+        this.fareTable = new FareTable(totalDistance);
+    }
+
+    SubwayGraph(long version, long[] stationIds, String[] stationNames,
+                long[] lineIds, String[] lineNames, String[] lineColors, int[] lineSurcharges,
+                long[] sectionIds, int[] sectionLines, int[] sectionUpStations, int[] sectionDownStations,
+                int[] sectionDistances, int[] sectionDurations, long totalDistance,
+                int[] offsets, int[] adjacentStations, int[] adjacentSections,
+                int[] stateOffsets, int[] stateLines, int[] stateStations, int[] adjacentStates, FareTable fareTable) {
+        this.version = version;
+        this.stationIds = stationIds;
+        this.stationNames = stationNames;
+        this.lineIds = lineIds;
+        this.lineNames = lineNames;
+        this.lineColors = lineColors;
+        this.lineSurcharges = lineSurcharges;
+        this.sectionIds = sectionIds;
+        this.sectionLines = sectionLines;
+        this.sectionUpStations = sectionUpStations;
+        this.sectionDownStations = sectionDownStations;
+        this.sectionDistances = sectionDistances;
+        this.sectionDurations = sectionDurations;
+        this.totalDistance = totalDistance;
+        this.offsets = offsets;
+        this.adjacentStations = adjacentStations;
+        this.adjacentSections = adjacentSections;
+        this.stateOffsets = stateOffsets;
+        this.stateLines = stateLines;
+        this.stateStations = stateStations;
+        this.adjacentStates = adjacentStates;
+        this.fareTable = fareTable;
+    }
+
+    public static SubwayGraph of(long version, List<Station> stations, List<Line> lines) {
+        Station[] sortedStations = stations.toArray(new Station[0]);
+        Arrays.parallelSort(sortedStations, Comparator.comparing(Station::getId));
+        Line[] sortedLines = lines.stream()
+                .sorted(Comparator.comparing(Line::getId))
+                .toArray(Line[]::new);
+
+        long[] stationIds = new long[sortedStations.length];
+        String[] stationNames = new String[sortedStations.length];
+        range(sortedStations.length).forEach(i -> {
+            stationIds[i] = sortedStations[i].getId();
+            stationNames[i] = sortedStations[i].getName();
+        });
+
+        long[] lineIds = new long[sortedLines.length];
+        String[] lineNames = new String[sortedLines.length];
+        String[] lineColors = new String[sortedLines.length];
+        int[] lineSurcharges = new int[sortedLines.length];
+        int[] lineOffsets = new int[sortedLines.length + 1];
+        for (int i = 0; i < sortedLines.length; i++) {
+            lineIds[i] = sortedLines[i].getId();
+            lineNames[i] = sortedLines[i].getName();
+            lineColors[i] = sortedLines[i].getColor();
+            lineSurcharges[i] = sortedLines[i].getSurcharge();
+            lineOffsets[i + 1] = lineOffsets[i] + sortedLines[i].getSections().size();
+        }
+
+        int sectionCount = lineOffsets[sortedLines.length];
+        long[] sectionIds = new long[sectionCount];
+        int[] sectionLines = new int[sectionCount];
+        int[] upStations = new int[sectionCount];
+        int[] downStations = new int[sectionCount];
+        int[] distances = new int[sectionCount];
+        int[] durations = new int[sectionCount];
+
+        // 노선마다 구간 배열에서 쓸 범위가 미리 정해져 있으므로 노선 단위 작업끼리는 서로 겹치지 않는다.
+        range(sortedLines.length, sectionCount).forEach(line -> {
+            Section[] sections = sortedLines[line].getSections().stream()
+                    .sorted(Comparator.comparing(Section::getId))
+                    .toArray(Section[]::new);
+            int index = lineOffsets[line];
+            for (Section section : sections) {
+                sectionIds[index] = section.getId();
+                sectionLines[index] = line;
+                upStations[index] = indexOf(stationIds, section.getUpStation().getId());
+                downStations[index] = indexOf(stationIds, section.getDownStation().getId());
+                distances[index] = section.getDistance();
+                durations[index] = section.getDuration();
+                index++;
+            }
+        });
+
+        return new SubwayGraph(version, stationIds, stationNames, lineIds, lineNames, lineColors, lineSurcharges,
+                sectionIds, sectionLines, upStations, downStations, distances, durations);
+    }
+
+    /**
+     * 저장소를 다시 읽지 않고 이 그래프에 변경 로그만 적용한 새 그래프를 만든다.
+     * 바뀐 구간이 닿는 역만 다시 계산하고, 이 그래프의 배열은 고치지 않으므로 이 그래프를 쓰고 있는 검색은 영향을 받지 않는다.
+     */
+    public SubwayGraph apply(long version, List<NetworkChange> changes) {
+        return new SubwayGraphPatch(this).apply(changes).build(version);
+    }
+
+    static int indexOf(long[] stationIds, long stationId) {
+        int index = Arrays.binarySearch(stationIds, stationId);
+        if (index < 0) {
+            throw new IllegalStateException("구간에 등록된 역을 찾을 수 없습니다: " + stationId);
+        }
+        return index;
+    }
+
+    /**
+     * 작은 그래프는 작업을 나누는 비용이 더 크므로 순차로, 큰 그래프는 공용 ForkJoinPool 에서 병렬로 처리한다.
+     */
+    static IntStream range(int count) {
+        return range(count, count);
+    }
+
+    static IntStream range(int count, int work) {
+        IntStream range = IntStream.range(0, count);
+        return work >= PARALLEL_THRESHOLD ? range.parallel() : range;
+    }
+
+    /**
+     * 구간의 양 끝을 (역, 구간) 쌍으로 펼쳐 병렬 정렬하면 역별로 묶인 인접 리스트가 된다.
+     * 같은 역 안에서는 구간 번호 순서이고, 각 역의 시작 위치는 역이 바뀌는 경계에서 한 번씩만 기록한다.
+     */
+    private void fillAdjacency() {
+        long[] endpoints = new long[sectionIds.length * 2];
+        range(sectionIds.length).forEach(section -> {
+            endpoints[section * 2] = ((long) sectionUpStations[section] << 32) | section;
+            endpoints[section * 2 + 1] = ((long) sectionDownStations[section] << 32) | section;
+        });
+        Arrays.parallelSort(endpoints);
+
+        range(endpoints.length).forEach(adjacency -> {
+            int station = (int) (endpoints[adjacency] >>> 32);
+            int section = (int) endpoints[adjacency];
+            adjacentSections[adjacency] = section;
+            adjacentStations[adjacency] = otherEnd(section, station);
+
+            int previousStation = adjacency == 0 ? -1 : (int) (endpoints[adjacency - 1] >>> 32);
+            for (int skipped = previousStation + 1; skipped <= station; skipped++) {
+                offsets[skipped] = adjacency;
+            }
+        });
+        int lastStation = endpoints.length == 0 ? -1 : (int) (endpoints[endpoints.length - 1] >>> 32);
+        for (int station = lastStation + 1; station <= stationIds.length; station++) {
+            offsets[station] = endpoints.length;
+        }
+    }
+
+    /**
+     * 역마다 그 역을 지나는 노선 수만큼 (역, 노선) 상태를 둔다.
+     * 환승을 구분해야 하는 검색은 별도의 확장 그래프 없이 이 상태 위에서 동작한다.
+     */
+    private int[] fillStateLines() {
+        int[] counts = new int[stationIds.length + 1];
+        range(stationIds.length, adjacentSections.length).forEach(station -> {
+            for (int adjacency = offsets[station]; adjacency < offsets[station + 1]; adjacency++) {
+                if (isFirstLineAt(station, adjacency)) {
+                    counts[station + 1]++;
+                }
+            }
+        });
+        Arrays.parallelPrefix(counts, Integer::sum);
+        System.arraycopy(counts, 0, stateOffsets, 0, counts.length);
+
+        int[] lines = new int[counts[stationIds.length]];
+        range(stationIds.length, adjacentSections.length).forEach(station -> {
+            int state = stateOffsets[station];
+            for (int adjacency = offsets[station]; adjacency < offsets[station + 1]; adjacency++) {
+                if (isFirstLineAt(station, adjacency)) {
+                    lines[state++] = sectionLines[adjacentSections[adjacency]];
+                }
+            }
+        });
+        return lines;
+    }
+
+    private boolean isFirstLineAt(int station, int adjacency) {
+        int line = sectionLines[adjacentSections[adjacency]];
+        for (int previous = offsets[station]; previous < adjacency; previous++) {
+            if (sectionLines[adjacentSections[previous]] == line) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void fillStates() {
+        range(stationIds.length).forEach(station -> {
+            for (int state = stateOffsets[station]; state < stateOffsets[station + 1]; state++) {
+                stateStations[state] = station;
+            }
+        });
+        range(adjacentStations.length).forEach(adjacency ->
+                adjacentStates[adjacency] = findState(adjacentStations[adjacency], sectionLines[adjacentSections[adjacency]]));
+    }
+
+    private int findState(int station, int line) {
+        for (int state = stateOffsets[station]; state < stateOffsets[station + 1]; state++) {
+            if (stateLines[state] == line) {
+                return state;
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public int stationCount() {
+        return stationIds.length;
+    }
+
+    public int lineCount() {
+        return lineIds.length;
+    }
+
+    public int sectionCount() {
+        return sectionIds.length;
+    }
+
+    public int stateCount() {
+        return stateLines.length;
+    }
+
+    public long getTotalDistance() {
+        return totalDistance;
+    }
+
+    public int findStationIndex(long stationId) {
+        int index = Arrays.binarySearch(stationIds, stationId);
+        return index < 0 ? -1 : index;
+    }
+
+    public long stationId(int station) {
+        return stationIds[station];
+    }
+
+    public String stationName(int station) {
+        return stationNames[station];
+    }
+
+    public long lineId(int line) {
+        return lineIds[line];
+    }
+
+    public String lineName(int line) {
+        return lineNames[line];
+    }
+
+    public String lineColor(int line) {
+        return lineColors[line];
+    }
+
+    public int lineSurcharge(int line) {
+        return lineSurcharges[line];
+    }
+
+    public long sectionId(int section) {
+        return sectionIds[section];
+    }
+
+    public int sectionLine(int section) {
+        return sectionLines[section];
+    }
+
+    public int sectionUpStation(int section) {
+        return sectionUpStations[section];
+    }
+
+    public int sectionDownStation(int section) {
+        return sectionDownStations[section];
+    }
+
+    public int sectionDistance(int section) {
+        return sectionDistances[section];
+    }
+
+    public int sectionDuration(int section) {
+        return sectionDurations[section];
+    }
+
+    public int sectionWeight(int section, PathType type) {
+        return type == PathType.DURATION ? sectionDurations[section] : sectionDistances[section];
+    }
+
+    public int otherEnd(int section, int station) {
+        return sectionUpStations[section] == station ? sectionDownStations[section] : sectionUpStations[section];
+    }
+
+    public int adjacencyStart(int station) {
+        return offsets[station];
+    }
+
+    public int adjacencyEnd(int station) {
+        return offsets[station + 1];
+    }
+
+    public int adjacentStation(int adjacency) {
+        return adjacentStations[adjacency];
+    }
+
+    public int adjacentSection(int adjacency) {
+        return adjacentSections[adjacency];
+    }
+
+    public int adjacentState(int adjacency) {
+        return adjacentStates[adjacency];
+    }
+
+    public int stateStart(int station) {
+        return stateOffsets[station];
+    }
+
+    public int stateEnd(int station) {
+        return stateOffsets[station + 1];
+    }
+
+    public int stateStation(int state) {
+        return stateStations[state];
+    }
+
+    public int stateLine(int state) {
+        return stateLines[state];
+    }
+
+    public boolean hasSections(int station) {
+        return offsets[station] < offsets[station + 1];
+    }
+
+    public boolean isTransferStation(int station) {
+        return stateOffsets[station + 1] - stateOffsets[station] > 1;
+    }
+
+    public int countTransfers(int[] sections) {
+        int transfers = 0;
+        for (int i = 1; i < sections.length; i++) {
+            if (sectionLines[sections[i]] != sectionLines[sections[i - 1]]) {
+                transfers++;
+            }
+        }
+        return transfers;
+    }
+
+    /**
+     * 거리 구간 요금은 그래프를 만들 때 함께 계산해 둔 표에서 찾고, 노선 추가 요금은 경로가 지나는 노선 중 가장 큰 값을 더한다.
+     */
+    public int fareOf(Path path) {
+        int surcharge = 0;
+        for (int section : path.getSections()) {
+            surcharge = Math.max(surcharge, lineSurcharges[sectionLines[section]]);
+        }
+        return fareTable.distanceFare(path.getDistance()) + surcharge;
+    }
+}
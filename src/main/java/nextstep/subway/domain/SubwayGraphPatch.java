@@ -0,0 +1,573 @@
+package nextstep.subway.domain;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 변경 로그를 역, 노선, 구간별 마지막 상태로 접은 뒤 기존 그래프의 배열에 끼워 넣어 새 그래프를 만든다.
+ * 바뀐 구간이 닿는 역의 인접 목록과 상태만 다시 만들고, 나머지 역은 기존 범위를 새 번호로 옮겨 복사한다.
+ * 전체를 다시 정렬하거나 박싱하지 않으므로 비용은 배열 복사 한 번에 변경 수만큼의 작업을 더한 정도다.
+ * 변경은 모두 "이 값으로 만든다" 또는 "지운다" 형태라서 이미 반영된 변경을 다시 적용해도 결과가 같고,
+ * 결과는 같은 데이터로 SubwayGraph.of 를 부른 그래프와 배열 단위로 같다.
+ */
+class SubwayGraphPatch {
+    private final SubwayGraph base;
+
+    private final Map<Long, String> upsertedStations = new HashMap<>();
+    private final Set<Long> removedStations = new HashSet<>();
+    private final Map<Long, LineRow> upsertedLines = new HashMap<>();
+    private final Set<Long> removedLines = new HashSet<>();
+    private final Set<Long> clearedLines = new HashSet<>();
+    private final Map<Long, SectionRow> upsertedSections = new HashMap<>();
+    private final Set<Long> removedSections = new HashSet<>();
+
+    SubwayGraphPatch(SubwayGraph base) {
+        this.base = base;
+    }
+
+    SubwayGraphPatch apply(List<NetworkChange> changes) {
+        for (NetworkChange change : changes) {
+            apply(change);
+        }
+        return this;
+    }
+
+    private void apply(NetworkChange change) {
+        switch (change.getType()) {
+            case STATION_ADDED:
+                upsertedStations.put(change.getStationId(), change.getName());
+                removedStations.remove(change.getStationId());
+                break;
+            case STATION_REMOVED:
+                upsertedStations.remove(change.getStationId());
+                removedStations.add(change.getStationId());
+                break;
+            case LINE_ADDED:
+            case LINE_UPDATED:
+                upsertedLines.put(change.getLineId(), new LineRow(change.getName(), change.getColor(), change.getSurcharge()));
+                removedLines.remove(change.getLineId());
+                break;
+            case LINE_REMOVED:
+                upsertedLines.remove(change.getLineId());
+                removedLines.add(change.getLineId());
+                clearedLines.add(change.getLineId());
+                upsertedSections.values().removeIf(section -> section.lineId == change.getLineId());
+                break;
+            case SECTION_ADDED:
+                upsertedSections.put(change.getSectionId(), new SectionRow(change.getSectionId(), change.getLineId(),
+                        change.getUpStationId(), change.getDownStationId(), change.getDistance(), change.getDuration()));
+                removedSections.remove(change.getSectionId());
+                break;
+            case SECTION_REMOVED:
+                upsertedSections.remove(change.getSectionId());
+                removedSections.add(change.getSectionId());
+                break;
+            default:
+                throw new IllegalStateException("알 수 없는 변경입니다: " + change.getType());
+        }
+    }
+
+    SubwayGraph build(long version) {
+        IdMerge stations = IdMerge.of(base.stationIds, removedStations, upsertedStations.keySet());
+        String[] stationNames = stationNames(stations);
+
+        IdMerge lines = IdMerge.of(base.lineIds, removedLines, upsertedLines.keySet());
+        String[] lineNames = base.lineNames;
+        String[] lineColors = base.lineColors;
+        int[] lineSurcharges = base.lineSurcharges;
+        if (!lines.isIdentity() || !upsertedLines.isEmpty()) {
+            lineNames = new String[lines.ids.length];
+            lineColors = new String[lines.ids.length];
+            lineSurcharges = new int[lines.ids.length];
+            for (int line = 0; line < lines.ids.length; line++) {
+                int origin = lines.origin(line);
+                if (origin >= 0) {
+                    lineNames[line] = base.lineNames[origin];
+                    lineColors[line] = base.lineColors[origin];
+                    lineSurcharges[line] = base.lineSurcharges[origin];
+                }
+            }
+            for (Map.Entry<Long, LineRow> line : upsertedLines.entrySet()) {
+                int index = Arrays.binarySearch(lines.ids, line.getKey());
+                lineNames[index] = line.getValue().name;
+                lineColors[index] = line.getValue().color;
+                lineSurcharges[index] = line.getValue().surcharge;
+            }
+        }
+
+        boolean[] dropped = findDroppedSections();
+        SectionRow[] inserted = sortInserted(lines.ids);
+        if (stations.isIdentity() && lines.isIdentity() && inserted.length == 0 && !any(dropped)) {
+            return new SubwayGraph(version, base.stationIds, stationNames, base.lineIds, lineNames, lineColors, lineSurcharges,
+                    base.sectionIds, base.sectionLines, base.sectionUpStations, base.sectionDownStations,
+                    base.sectionDistances, base.sectionDurations, base.totalDistance,
+                    base.offsets, base.adjacentStations, base.adjacentSections,
+                    base.stateOffsets, base.stateLines, base.stateStations, base.adjacentStates, base.fareTable);
+        }
+        return new Splice(version, stations, stationNames, lines, lineNames, lineColors, lineSurcharges, dropped, inserted).build();
+    }
+
+    private String[] stationNames(IdMerge stations) {
+        if (stations.isIdentity() && upsertedStations.isEmpty()) {
+            return base.stationNames;
+        }
+        String[] names = new String[stations.ids.length];
+        for (int station = 0; station < names.length; station++) {
+            int origin = stations.origin(station);
+            if (origin >= 0) {
+                names[station] = base.stationNames[origin];
+            }
+        }
+        for (Map.Entry<Long, String> station : upsertedStations.entrySet()) {
+            names[Arrays.binarySearch(stations.ids, station.getKey())] = station.getValue();
+        }
+        return names;
+    }
+
+    /**
+     * 지우거나 다시 쓴 구간, 지운 노선의 구간을 찾는다. 바뀐 구간 id 는 정렬한 배열에서 이분 탐색하므로 구간마다 박싱하지 않는다.
+     */
+    private boolean[] findDroppedSections() {
+        long[] changedIds = new long[removedSections.size() + upsertedSections.size()];
+        int index = 0;
+        for (long id : removedSections) {
+            changedIds[index++] = id;
+        }
+        for (long id : upsertedSections.keySet()) {
+            changedIds[index++] = id;
+        }
+        Arrays.sort(changedIds);
+
+        boolean[] clearedLineIndexes = new boolean[base.lineIds.length];
+        for (long lineId : clearedLines) {
+            int line = Arrays.binarySearch(base.lineIds, lineId);
+            if (line >= 0) {
+                clearedLineIndexes[line] = true;
+            }
+        }
+
+        boolean[] dropped = new boolean[base.sectionIds.length];
+        if (changedIds.length == 0 && clearedLines.isEmpty()) {
+            return dropped;
+        }
+        for (int section = 0; section < dropped.length; section++) {
+            dropped[section] = clearedLineIndexes[base.sectionLines[section]]
+                    || Arrays.binarySearch(changedIds, base.sectionIds[section]) >= 0;
+        }
+        return dropped;
+    }
+
+    private SectionRow[] sortInserted(long[] lineIds) {
+        SectionRow[] inserted = upsertedSections.values().toArray(new SectionRow[0]);
+        for (SectionRow section : inserted) {
+            section.line = Arrays.binarySearch(lineIds, section.lineId);
+            if (section.line < 0) {
+                throw new IllegalStateException("구간에 등록된 노선을 찾을 수 없습니다: " + section.lineId);
+            }
+        }
+        Arrays.sort(inserted, Comparator.<SectionRow>comparingInt(section -> section.line).thenComparingLong(section -> section.id));
+        return inserted;
+    }
+
+    private static boolean any(boolean[] values) {
+        for (boolean value : values) {
+            if (value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 구간 배열은 (노선, 구간 id) 순서를 지키며 살아남은 구간과 새 구간을 병합하고,
+     * 인접 목록과 상태는 바뀐 구간이 닿는 역만 다시 만든다.
+     */
+    private class Splice {
+        private final long version;
+        private final IdMerge stations;
+        private final String[] stationNames;
+        private final IdMerge lines;
+        private final String[] lineNames;
+        private final String[] lineColors;
+        private final int[] lineSurcharges;
+        private final boolean[] dropped;
+        private final SectionRow[] inserted;
+
+        private final int[] sectionMap;
+        private final int[] insertedSections;
+        private final long[] sectionIds;
+        private final int[] sectionLines;
+        private final int[] upStations;
+        private final int[] downStations;
+        private final int[] distances;
+        private final int[] durations;
+        private long totalDistance;
+
+        private final boolean[] affected;
+        private final int[] offsets;
+        private final int[] adjacentStations;
+        private final int[] adjacentSections;
+
+        private Splice(long version, IdMerge stations, String[] stationNames, IdMerge lines, String[] lineNames,
+                       String[] lineColors, int[] lineSurcharges, boolean[] dropped, SectionRow[] inserted) {
+            this.version = version;
+            this.stations = stations;
+            this.stationNames = stationNames;
+            this.lines = lines;
+            this.lineNames = lineNames;
+            this.lineColors = lineColors;
+            this.lineSurcharges = lineSurcharges;
+            this.dropped = dropped;
+            this.inserted = inserted;
+
+            int survivors = 0;
+            for (boolean drop : dropped) {
+                survivors += drop ? 0 : 1;
+            }
+            int sectionCount = survivors + inserted.length;
+            this.sectionMap = new int[base.sectionIds.length];
+            this.insertedSections = new int[inserted.length];
+            this.sectionIds = new long[sectionCount];
+            this.sectionLines = new int[sectionCount];
+            this.upStations = new int[sectionCount];
+            this.downStations = new int[sectionCount];
+            this.distances = new int[sectionCount];
+            this.durations = new int[sectionCount];
+
+            this.affected = new boolean[stations.ids.length];
+            this.offsets = new int[stations.ids.length + 1];
+            this.adjacentStations = new int[sectionCount * 2];
+            this.adjacentSections = new int[sectionCount * 2];
+        }
+
+        private SubwayGraph build() {
+            mergeSections();
+            spliceAdjacency();
+
+            int[] stateOffsets = new int[stations.ids.length + 1];
+            int[] stateLines = spliceStateLines(stateOffsets);
+            int[] stateStations = new int[stateLines.length];
+            for (int station = 0; station < stations.ids.length; station++) {
+                Arrays.fill(stateStations, stateOffsets[station], stateOffsets[station + 1], station);
+            }
+            int[] adjacentStates = spliceAdjacentStates(stateOffsets, stateLines);
+
+            return new SubwayGraph(version, stations.ids, stationNames, lines.ids, lineNames, lineColors, lineSurcharges,
+                    sectionIds, sectionLines, upStations, downStations, distances, durations, totalDistance,
+                    offsets, adjacentStations, adjacentSections,
+                    stateOffsets, stateLines, stateStations, adjacentStates, base.fareTable.grow(totalDistance));
+        }
+
+        private void mergeSections() {
+            int previous = 0;
+            int next = 0;
+            int section = 0;
+            while (previous < dropped.length || next < inserted.length) {
+                if (previous < dropped.length && dropped[previous]) {
+                    sectionMap[previous] = -1;
+                    markAffected(base.sectionUpStations[previous]);
+                    markAffected(base.sectionDownStations[previous]);
+                    previous++;
+                    continue;
+                }
+                if (next < inserted.length && (previous == dropped.length || comesBefore(inserted[next], previous))) {
+                    insertedSections[next] = section;
+                    SectionRow row = inserted[next++];
+                    sectionIds[section] = row.id;
+                    sectionLines[section] = row.line;
+                    upStations[section] = SubwayGraph.indexOf(stations.ids, row.upStationId);
+                    downStations[section] = SubwayGraph.indexOf(stations.ids, row.downStationId);
+                    distances[section] = row.distance;
+                    durations[section] = row.duration;
+                    affected[upStations[section]] = true;
+                    affected[downStations[section]] = true;
+                } else {
+                    sectionMap[previous] = section;
+                    sectionIds[section] = base.sectionIds[previous];
+                    sectionLines[section] = lines.map(base.sectionLines[previous]);
+                    upStations[section] = stationOf(base.sectionUpStations[previous]);
+                    downStations[section] = stationOf(base.sectionDownStations[previous]);
+                    distances[section] = base.sectionDistances[previous];
+                    durations[section] = base.sectionDurations[previous];
+                    previous++;
+                }
+                totalDistance += distances[section];
+                section++;
+            }
+        }
+
+        private boolean comesBefore(SectionRow row, int previous) {
+            int line = lines.map(base.sectionLines[previous]);
+            return row.line != line ? row.line < line : row.id < base.sectionIds[previous];
+        }
+
+        private int stationOf(int previous) {
+            int station = stations.map(previous);
+            if (station < 0) {
+                throw new IllegalStateException("구간에 등록된 역을 찾을 수 없습니다: " + base.stationIds[previous]);
+            }
+            return station;
+        }
+
+        private void markAffected(int previous) {
+            int station = stations.map(previous);
+            if (station >= 0) {
+                affected[station] = true;
+            }
+        }
+
+        /**
+         * 영향받지 않은 역은 기존 범위를 번호만 바꿔 복사하고, 영향받은 역은 살아남은 기존 항목과 새 구간을 구간 번호 순으로 병합한다.
+         * 살아남은 구간의 번호는 순서를 지키며 바뀌므로 두 경우 모두 역 안에서 구간 번호 순서가 유지된다.
+         */
+        private void spliceAdjacency() {
+            long[] insertedEnds = new long[inserted.length * 2];
+            for (int index = 0; index < inserted.length; index++) {
+                int section = insertedSections[index];
+                insertedEnds[index * 2] = ((long) upStations[section] << 32) | section;
+                insertedEnds[index * 2 + 1] = ((long) downStations[section] << 32) | section;
+            }
+            Arrays.sort(insertedEnds);
+
+            for (int station = 0; station < stations.ids.length; station++) {
+                int origin = stations.origin(station);
+                int degree = origin >= 0 ? base.offsets[origin + 1] - base.offsets[origin] : 0;
+                offsets[station + 1] = offsets[station] + degree;
+            }
+            int[] shifts = new int[stations.ids.length + 1];
+            for (int previous = 0; previous < dropped.length; previous++) {
+                if (dropped[previous]) {
+                    shift(shifts, base.sectionUpStations[previous], -1);
+                    shift(shifts, base.sectionDownStations[previous], -1);
+                }
+            }
+            for (long end : insertedEnds) {
+                shifts[(int) (end >>> 32) + 1]++;
+            }
+            int shift = 0;
+            for (int station = 0; station <= stations.ids.length; station++) {
+                shift += shifts[station];
+                offsets[station] += shift;
+            }
+
+            int next = 0;
+            for (int station = 0; station < stations.ids.length; station++) {
+                int adjacency = offsets[station];
+                int origin = stations.origin(station);
+                int previous = origin >= 0 ? base.offsets[origin] : 0;
+                int previousEnd = origin >= 0 ? base.offsets[origin + 1] : 0;
+                while (previous < previousEnd || (next < insertedEnds.length && (int) (insertedEnds[next] >>> 32) == station)) {
+                    if (previous < previousEnd && sectionMap[base.adjacentSections[previous]] < 0) {
+                        previous++;
+                        continue;
+                    }
+                    int section;
+                    if (previous < previousEnd && (next == insertedEnds.length || (int) (insertedEnds[next] >>> 32) != station
+                            || sectionMap[base.adjacentSections[previous]] < (int) insertedEnds[next])) {
+                        section = sectionMap[base.adjacentSections[previous++]];
+                    } else {
+                        section = (int) insertedEnds[next++];
+                    }
+                    adjacentSections[adjacency] = section;
+                    adjacentStations[adjacency] = upStations[section] == station ? downStations[section] : upStations[section];
+                    adjacency++;
+                }
+            }
+        }
+
+        private void shift(int[] shifts, int previous, int delta) {
+            int station = stations.map(previous);
+            if (station >= 0) {
+                shifts[station + 1] += delta;
+            }
+        }
+
+        private int[] spliceStateLines(int[] stateOffsets) {
+            for (int station = 0; station < stations.ids.length; station++) {
+                int origin = stations.origin(station);
+                int count = !affected[station] && origin >= 0
+                        ? base.stateOffsets[origin + 1] - base.stateOffsets[origin]
+                        : countLines(station);
+                stateOffsets[station + 1] = stateOffsets[station] + count;
+            }
+
+            int[] stateLines = new int[stateOffsets[stations.ids.length]];
+            for (int station = 0; station < stations.ids.length; station++) {
+                int state = stateOffsets[station];
+                int origin = stations.origin(station);
+                if (!affected[station] && origin >= 0) {
+                    for (int previous = base.stateOffsets[origin]; previous < base.stateOffsets[origin + 1]; previous++) {
+                        stateLines[state++] = lines.map(base.stateLines[previous]);
+                    }
+                    continue;
+                }
+                for (int adjacency = offsets[station]; adjacency < offsets[station + 1]; adjacency++) {
+                    if (isFirstLineAt(station, adjacency)) {
+                        stateLines[state++] = sectionLines[adjacentSections[adjacency]];
+                    }
+                }
+            }
+            return stateLines;
+        }
+
+        private int countLines(int station) {
+            int count = 0;
+            for (int adjacency = offsets[station]; adjacency < offsets[station + 1]; adjacency++) {
+                if (isFirstLineAt(station, adjacency)) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        private boolean isFirstLineAt(int station, int adjacency) {
+            int line = sectionLines[adjacentSections[adjacency]];
+            for (int previous = offsets[station]; previous < adjacency; previous++) {
+                if (sectionLines[adjacentSections[previous]] == line) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * 양쪽 역이 모두 영향받지 않은 항목은 이웃 역 안에서의 상태 위치가 그대로이므로 기존 값을 옮기기만 한다.
+         */
+        private int[] spliceAdjacentStates(int[] stateOffsets, int[] stateLines) {
+            int[] adjacentStates = new int[adjacentStations.length];
+            for (int station = 0; station < stations.ids.length; station++) {
+                int origin = stations.origin(station);
+                for (int adjacency = offsets[station]; adjacency < offsets[station + 1]; adjacency++) {
+                    int neighbor = adjacentStations[adjacency];
+                    if (!affected[station] && !affected[neighbor]) {
+                        int previous = base.offsets[origin] + adjacency - offsets[station];
+                        int previousNeighbor = base.adjacentStations[previous];
+                        adjacentStates[adjacency] = stateOffsets[neighbor]
+                                + base.adjacentStates[previous] - base.stateOffsets[previousNeighbor];
+                    } else {
+                        adjacentStates[adjacency] = findState(stateOffsets, stateLines, neighbor,
+                                sectionLines[adjacentSections[adjacency]]);
+                    }
+                }
+            }
+            return adjacentStates;
+        }
+
+        private int findState(int[] stateOffsets, int[] stateLines, int station, int line) {
+            for (int state = stateOffsets[station]; state < stateOffsets[station + 1]; state++) {
+                if (stateLines[state] == line) {
+                    return state;
+                }
+            }
+            throw new IllegalStateException();
+        }
+    }
+
+    /**
+     * 정렬한 id 배열에서 지운 id 를 빼고 새 id 를 끼워 넣는다. 번호가 하나도 바뀌지 않으면 기존 배열을 그대로 쓴다.
+     */
+    private static class IdMerge {
+        private final long[] ids;
+        private final int[] map;
+        private final int[] origins;
+
+        private IdMerge(long[] ids, int[] map, int[] origins) {
+            this.ids = ids;
+            this.map = map;
+            this.origins = origins;
+        }
+
+        private static IdMerge of(long[] baseIds, Set<Long> removed, Set<Long> upserted) {
+            List<Long> added = new ArrayList<>();
+            for (long id : upserted) {
+                if (Arrays.binarySearch(baseIds, id) < 0) {
+                    added.add(id);
+                }
+            }
+            boolean[] removedIndexes = new boolean[baseIds.length];
+            int removedCount = 0;
+            for (long id : removed) {
+                int index = Arrays.binarySearch(baseIds, id);
+                if (index >= 0) {
+                    removedIndexes[index] = true;
+                    removedCount++;
+                }
+            }
+            if (added.isEmpty() && removedCount == 0) {
+                return new IdMerge(baseIds, null, null);
+            }
+
+            long[] addedIds = added.stream().mapToLong(Long::longValue).sorted().toArray();
+            long[] ids = new long[baseIds.length - removedCount + addedIds.length];
+            int[] map = new int[baseIds.length];
+            int[] origins = new int[ids.length];
+            int previous = 0;
+            int next = 0;
+            int index = 0;
+            while (previous < baseIds.length || next < addedIds.length) {
+                if (previous < baseIds.length && removedIndexes[previous]) {
+                    map[previous++] = -1;
+                    continue;
+                }
+                if (next < addedIds.length && (previous == baseIds.length || addedIds[next] < baseIds[previous])) {
+                    ids[index] = addedIds[next++];
+                    origins[index++] = -1;
+                } else {
+                    ids[index] = baseIds[previous];
+                    origins[index] = previous;
+                    map[previous++] = index++;
+                }
+            }
+            return new IdMerge(ids, map, origins);
+        }
+
+        private boolean isIdentity() {
+            return map == null;
+        }
+
+        private int map(int previous) {
+            return map == null ? previous : map[previous];
+        }
+
+        private int origin(int index) {
+            return origins == null ? index : origins[index];
+        }
+    }
+
+    private static class LineRow {
+        private final String name;
+        private final String color;
+        private final int surcharge;
+
+        private LineRow(String name, String color, int surcharge) {
+            this.name = name;
+            this.color = color;
+            this.surcharge = surcharge;
+        }
+    }
+
+    private static class SectionRow {
+        private final long id;
+        private final long lineId;
+        private final long upStationId;
+        private final long downStationId;
+        private final int distance;
+        private final int duration;
+        private int line;
+
+        private SectionRow(long id, long lineId, long upStationId, long downStationId, int distance, int duration) {
+            this.id = id;
+            this.lineId = lineId;
+            this.upStationId = upStationId;
+            this.downStationId = downStationId;
+            this.distance = distance;
+            this.duration = duration;
+        }
+    }
+}
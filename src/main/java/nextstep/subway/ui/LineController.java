@@ -1,22 +1,28 @@
 package nextstep.subway.ui;
 
 import nextstep.subway.applicaion.LineService;
+import nextstep.subway.applicaion.SectionWriteBatcher;
 import nextstep.subway.applicaion.dto.LineRequest;
 import nextstep.subway.applicaion.dto.LineResponse;
 import nextstep.subway.applicaion.dto.SectionRequest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
-import java.util.List;
 
 @RestController
 @RequestMapping("/lines")
 public class LineController {
     private LineService lineService;
+    private SectionWriteBatcher sectionWriteBatcher;
+    private PrecompressedBodyCache precompressedBodyCache;
 
-    public LineController(LineService lineService) {
+    public LineController(LineService lineService, SectionWriteBatcher sectionWriteBatcher,
+                          PrecompressedBodyCache precompressedBodyCache) {
         this.lineService = lineService;
+        this.sectionWriteBatcher = sectionWriteBatcher;
+        this.precompressedBodyCache = precompressedBodyCache;
     }
 
     @PostMapping
@@ -26,9 +32,8 @@ public class LineController {
     }
 
     @GetMapping
-    public ResponseEntity<List<LineResponse>> showLines() {
-        List<LineResponse> responses = lineService.showLines();
-        return ResponseEntity.ok().body(responses);
+    public ResponseEntity<?> showLines(@RequestHeader HttpHeaders headers) {
+        return precompressedBodyCache.respond("lines", headers, lineService::showLines);
     }
 
     @GetMapping("/{id}")
@@ -51,7 +56,7 @@ public class LineController {
 
     @PostMapping("/{lineId}/sections")
     public ResponseEntity<Void> addSection(@PathVariable Long lineId, @RequestBody SectionRequest sectionRequest) {
-        lineService.addSection(lineId, sectionRequest);
+        sectionWriteBatcher.addSection(lineId, sectionRequest);
         return ResponseEntity.ok().build();
     }
 
@@ -0,0 +1,68 @@
+package nextstep.subway.ui;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import nextstep.subway.applicaion.dto.LineListResponse;
+import nextstep.subway.applicaion.dto.StationListResponse;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+
+/**
+ * 서비스가 트랜잭션 안에서 배열로 옮겨 둔 노선/역 목록을 중간 DTO 없이 응답 스트림의 JsonGenerator 로 쓴다.
+ * 필드 이름은 미리 인코딩해 둔 SerializedString 을 쓰고, 출력 버퍼는 Jackson 의 BufferRecycler 가 재사용한다.
+ * LineResponse, StationResponse 를 Jackson 이 직렬화한 결과와 같은 모양을 낸다.
+ */
+@JsonComponent
+public class ListResponseSerializers {
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString NAME = new SerializedString("name");
+    private static final SerializedString COLOR = new SerializedString("color");
+    private static final SerializedString SURCHARGE = new SerializedString("surcharge");
+    private static final SerializedString STATIONS = new SerializedString("stations");
+
+    public static class LineListSerializer extends JsonSerializer<LineListResponse> {
+        @Override
+        public void serialize(LineListResponse value, JsonGenerator generator, SerializerProvider serializers) throws IOException {
+            StationListResponse stations = value.getStations();
+            generator.writeStartArray();
+            for (int line = 0; line < value.size(); line++) {
+                generator.writeStartObject();
+                generator.writeFieldName(ID);
+                generator.writeNumber(value.getId(line));
+                generator.writeFieldName(NAME);
+                generator.writeString(value.getName(line));
+                generator.writeFieldName(COLOR);
+                generator.writeString(value.getColor(line));
+                generator.writeFieldName(SURCHARGE);
+                generator.writeNumber(value.getSurcharge(line));
+                generator.writeFieldName(STATIONS);
+                writeStations(generator, stations, value.stationStart(line), value.stationEnd(line));
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+        }
+    }
+
+    public static class StationListSerializer extends JsonSerializer<StationListResponse> {
+        @Override
+        public void serialize(StationListResponse value, JsonGenerator generator, SerializerProvider serializers) throws IOException {
+            writeStations(generator, value, 0, value.size());
+        }
+    }
+
+    private static void writeStations(JsonGenerator generator, StationListResponse stations, int start, int end) throws IOException {
+        generator.writeStartArray();
+        for (int i = start; i < end; i++) {
+            generator.writeStartObject();
+            generator.writeFieldName(ID);
+            generator.writeNumber(stations.getId(i));
+            generator.writeFieldName(NAME);
+            generator.writeString(stations.getName(i));
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+    }
+}
@@ -0,0 +1,47 @@
+package nextstep.subway.ui;
+
+import nextstep.subway.applicaion.PathSearchExecutor;
+import nextstep.subway.applicaion.PathService;
+import nextstep.subway.applicaion.dto.MeetingPointResponse;
+import nextstep.subway.applicaion.dto.PathResponse;
+import nextstep.subway.domain.MeetingObjective;
+import nextstep.subway.domain.PathType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+@RestController
+public class PathController {
+    private PathService pathService;
+    private PathSearchExecutor pathSearchExecutor;
+
+    public PathController(PathService pathService, PathSearchExecutor pathSearchExecutor) {
+        this.pathService = pathService;
+        this.pathSearchExecutor = pathSearchExecutor;
+    }
+
+    @GetMapping("/paths")
+    public CompletableFuture<ResponseEntity<PathResponse>> findPath(@RequestParam Long source, @RequestParam Long target,
+                                                                    @RequestParam(defaultValue = "DISTANCE") PathType type,
+                                                                    @RequestParam(defaultValue = "0") int transferPenalty) {
+        return pathSearchExecutor.submit(() -> pathService.findPath(source, target, type, transferPenalty))
+                .thenApply(response -> ResponseEntity.ok().body(response));
+    }
+
+    @GetMapping("/paths/pareto")
+    public CompletableFuture<ResponseEntity<List<PathResponse>>> findParetoPaths(@RequestParam Long source, @RequestParam Long target) {
+        return pathSearchExecutor.submit(() -> pathService.findParetoPaths(source, target))
+                .thenApply(responses -> ResponseEntity.ok().body(responses));
+    }
+
+    @GetMapping("/paths/meeting-point")
+    public CompletableFuture<ResponseEntity<MeetingPointResponse>> findMeetingPoint(@RequestParam List<Long> origins,
+                                                                                    @RequestParam(defaultValue = "MAX") MeetingObjective objective) {
+        return pathSearchExecutor.submit(() -> pathService.findMeetingPoint(origins, objective))
+                .thenApply(response -> ResponseEntity.ok().body(response));
+    }
+}
@@ -0,0 +1,172 @@
+package nextstep.subway.ui;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import nextstep.subway.applicaion.NetworkResetEvent;
+import nextstep.subway.applicaion.SubwayGraphService;
+import nextstep.subway.applicaion.jfr.CacheLoadEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 거의 바뀌지 않는 목록 응답을 네트워크 버전(마지막으로 적용한 변경 순번)마다 한 번만 직렬화하고 gzip 으로 압축해 둔다.
+ * 요청마다 Accept-Encoding 을 보고 미리 압축한 본문이나 원문을 그대로 내려보낸다.
+ * JSON 이 아닌 표현(CBOR 나 지원하지 않는 형식)을 요청하면 캐시를 거치지 않고 평소처럼 메시지 컨버터가 협상한다.
+ */
+@Component
+public class PrecompressedBodyCache {
+    private static final String GZIP = "gzip";
+
+    private SubwayGraphService subwayGraphService;
+    private ObjectMapper objectMapper;
+
+    private final Map<String, CachedBody> bodies = new ConcurrentHashMap<>();
+
+    public PrecompressedBodyCache(SubwayGraphService subwayGraphService, ObjectMapper objectMapper) {
+        this.subwayGraphService = subwayGraphService;
+        this.objectMapper = objectMapper;
+    }
+
+    public ResponseEntity<?> respond(String key, HttpHeaders requestHeaders, Supplier<Object> body) {
+        if (!acceptsJson(requestHeaders)) {
+            return ResponseEntity.ok().header(HttpHeaders.VARY, HttpHeaders.ACCEPT).body(body.get());
+        }
+
+        CachedBody cached = get(key, body);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+        if (acceptsGzip(requestHeaders.getFirst(HttpHeaders.ACCEPT_ENCODING))) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, GZIP).body(cached.gzip);
+        }
+        return response.body(cached.identity);
+    }
+
+    @EventListener
+    public void reset(NetworkResetEvent event) {
+        bodies.clear();
+    }
+
+    /**
+     * 버전을 먼저 읽고 본문을 만들므로 본문은 그 버전보다 오래된 데이터를 담지 않는다.
+     */
+    private CachedBody get(String key, Supplier<Object> body) {
+        long version = subwayGraphService.getGraph().getVersion();
+        CachedBody cached = bodies.get(key);
+        if (cached != null && cached.version == version) {
+            return cached;
+        }
+
+        CacheLoadEvent event = CacheLoadEvent.start("precompressedBody", key);
+        CachedBody created = new CachedBody(version, serialize(body.get()));
+        event.finish(version, created.identity.length + created.gzip.length);
+        bodies.merge(key, created, (current, candidate) -> current.version >= candidate.version ? current : candidate);
+        return created;
+    }
+
+    private byte[] serialize(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Accept 를 구체적이고 품질 값이 높은 순서로 보아 application/json 이나 모든 형식이 CBOR 보다 먼저 나올 때만 캐시한 JSON 으로 응답한다.
+     * Accept 가 없으면 모든 형식을 받는 것으로 본다.
+     */
+    private static boolean acceptsJson(HttpHeaders requestHeaders) {
+        List<MediaType> accepted = new ArrayList<>(requestHeaders.getAccept());
+        if (accepted.isEmpty()) {
+            return true;
+        }
+        MediaType.sortBySpecificityAndQuality(accepted);
+        for (MediaType type : accepted) {
+            if (type.getQualityValue() == 0) {
+                continue;
+            }
+            if (type.isWildcardType() || type.equalsTypeAndSubtype(MediaType.APPLICATION_JSON)) {
+                return true;
+            }
+            if (type.isCompatibleWith(MediaType.APPLICATION_CBOR)) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * gzip 을 직접 적은 항목이 있으면 그 q 값을, 없으면 "*" 의 q 값을 따르고 q=0 은 거부로 본다.
+     * "gzip", "gzip;q=0.5", "*" 는 허용으로, "gzip;q=0", "*;q=0, identity" 는 거부로 본다.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        double gzip = -1;
+        double any = -1;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim();
+            if (name.equalsIgnoreCase(GZIP)) {
+                gzip = quality(parts);
+            } else if (name.equals("*")) {
+                any = quality(parts);
+            }
+        }
+        return (gzip >= 0 ? gzip : any) > 0;
+    }
+
+    /**
+     * q 매개변수가 없으면 1 이고, 읽을 수 없는 값은 거부(0)로 본다.
+     */
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String[] parameter = parts[i].split("=", 2);
+            if (parameter.length == 2 && parameter[0].trim().equalsIgnoreCase("q")) {
+                try {
+                    return Double.parseDouble(parameter[1].trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return compressed.toByteArray();
+    }
+
+    private static class CachedBody {
+        private final long version;
+        private final byte[] identity;
+        private final byte[] gzip;
+
+        private CachedBody(long version, byte[] identity) {
+            this.version = version;
+            this.identity = identity;
+            this.gzip = gzip(identity);
+        }
+    }
+}
@@ -1,20 +1,42 @@
 package nextstep.subway.ui;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import nextstep.subway.applicaion.PathService;
+import nextstep.subway.applicaion.StationSearchService;
 import nextstep.subway.applicaion.StationService;
+import nextstep.subway.applicaion.dto.LineSummaryResponse;
+import nextstep.subway.applicaion.dto.ReachableStationResponse;
 import nextstep.subway.applicaion.dto.StationRequest;
 import nextstep.subway.applicaion.dto.StationResponse;
+import nextstep.subway.applicaion.dto.TransferStationResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.util.List;
 
 @RestController
 public class StationController {
     private StationService stationService;
+    private StationSearchService stationSearchService;
+    private PathService pathService;
+    private ObjectMapper objectMapper;
+    private PrecompressedBodyCache precompressedBodyCache;
 
-    public StationController(StationService stationService) {
+    public StationController(StationService stationService, StationSearchService stationSearchService,
+                             PathService pathService, ObjectMapper objectMapper,
+                             PrecompressedBodyCache precompressedBodyCache) {
         this.stationService = stationService;
+        this.stationSearchService = stationSearchService;
+        this.pathService = pathService;
+        this.objectMapper = objectMapper;
+        this.precompressedBodyCache = precompressedBodyCache;
     }
 
     @PostMapping("/stations")
@@ -24,8 +46,45 @@ public class StationController {
     }
 
     @GetMapping(value = "/stations")
-    public ResponseEntity<List<StationResponse>> showStations() {
-        return ResponseEntity.ok().body(stationService.findAllStations());
+    public ResponseEntity<?> showStations(@RequestHeader HttpHeaders headers) {
+        return precompressedBodyCache.respond("stations", headers, stationService::findAllStations);
+    }
+
+    @GetMapping(value = "/stations/search")
+    public ResponseEntity<List<StationResponse>> searchStations(@RequestParam String prefix,
+                                                                @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok().body(stationSearchService.searchStations(prefix, limit));
+    }
+
+    @GetMapping(value = "/stations/transfers")
+    public ResponseEntity<List<TransferStationResponse>> showTransferStations() {
+        return ResponseEntity.ok().body(stationService.findTransferStations());
+    }
+
+    @GetMapping(value = "/stations/{id}/lines")
+    public ResponseEntity<List<LineSummaryResponse>> showLinesThroughStation(@PathVariable Long id) {
+        return ResponseEntity.ok().body(stationService.findLinesThrough(id));
+    }
+
+    @GetMapping(value = "/stations/reachable")
+    public ResponseEntity<StreamingResponseBody> showReachableStations(@RequestParam Long source, @RequestParam int maxDistance) {
+        StreamingResponseBody body = outputStream -> {
+            // 검색 전에 실패하면 버퍼가 비워지지 않은 채 예외가 전파되어 400 으로 응답할 수 있도록 try-with-resources 로 닫지 않는다.
+            JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream);
+            generator.writeStartArray();
+            pathService.findReachableStations(source, maxDistance, station -> writeStation(generator, station));
+            generator.writeEndArray();
+            generator.close();
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    private void writeStation(JsonGenerator generator, ReachableStationResponse station) {
+        try {
+            generator.writeObject(station);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     @DeleteMapping("/stations/{id}")
@@ -1,14 +1,21 @@
 package nextstep.subway.acceptance;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
 import io.restassured.RestAssured;
 import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static nextstep.subway.acceptance.LineSteps.*;
@@ -53,6 +60,94 @@ class LineAcceptanceTest extends AcceptanceTest {
         assertThat(response.jsonPath().getList("name")).contains("2호선", "3호선");
     }
 
+    /**
+     * Given 지하철 노선을 생성하고 gzip 압축을 허용해 목록을 조회한 뒤
+     * When 노선을 하나 더 생성하고 다시 목록을 조회하면
+     * Then 압축된 응답에서 새로 생성한 노선까지 조회할 수 있다.
+     */
+    @DisplayName("지하철 노선 목록을 gzip 으로 압축해 조회")
+    @Test
+    void getLinesWithGzip() {
+        // given
+        지하철_노선_생성_요청("2호선", "green");
+        ExtractableResponse<Response> before = 지하철_노선_목록_압축_조회_요청("gzip");
+
+        // when
+        지하철_노선_생성_요청("3호선", "orange");
+        ExtractableResponse<Response> response = 지하철_노선_목록_압축_조회_요청("gzip");
+
+        // then
+        assertThat(before.header(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(before.jsonPath().getList("name")).containsExactly("2호선");
+        assertThat(response.header(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(response.header(HttpHeaders.VARY)).contains(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+        assertThat(response.jsonPath().getList("name")).containsExactly("2호선", "3호선");
+    }
+
+    /**
+     * Given 지하철 노선을 생성하고
+     * When gzip 을 q=0 으로 거부하고 목록을 조회하면
+     * Then 압축하지 않은 응답을 받는다.
+     */
+    @DisplayName("gzip 을 거부하면 압축하지 않은 지하철 노선 목록을 조회")
+    @Test
+    void getLinesWithoutRefusedGzip() {
+        // given
+        지하철_노선_생성_요청("2호선", "green");
+
+        // when
+        ExtractableResponse<Response> refused = 지하철_노선_목록_압축_조회_요청("gzip;q=0");
+        ExtractableResponse<Response> identityOnly = 지하철_노선_목록_압축_조회_요청("*;q=0, identity");
+
+        // then
+        assertThat(refused.header(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(refused.jsonPath().getList("name")).containsExactly("2호선");
+        assertThat(identityOnly.header(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(identityOnly.jsonPath().getList("name")).containsExactly("2호선");
+    }
+
+    /**
+     * Given 지하철 노선을 생성하고
+     * When 지원하지 않는 형식으로 목록을 조회하면
+     * Then 406 Not Acceptable 을 응답받는다.
+     */
+    @DisplayName("지원하지 않는 형식으로 지하철 노선 목록 조회")
+    @Test
+    void getLinesAsUnsupportedType() {
+        // given
+        지하철_노선_생성_요청("2호선", "green");
+
+        // when
+        ExtractableResponse<Response> response = 지하철_노선_목록_조회_요청(MediaType.TEXT_PLAIN_VALUE);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.NOT_ACCEPTABLE.value());
+    }
+
+    /**
+     * Given 2개의 지하철 노선을 생성하고
+     * When CBOR 형식으로 지하철 노선 목록을 조회하면
+     * Then CBOR 로 인코딩된 2개의 노선을 조회할 수 있다.
+     */
+    @DisplayName("지하철 노선 목록을 CBOR 형식으로 조회")
+    @Test
+    void getLinesAsCbor() throws IOException {
+        // given
+        지하철_노선_생성_요청("2호선", "green");
+        지하철_노선_생성_요청("3호선", "orange");
+
+        // when
+        ExtractableResponse<Response> response = 지하철_노선_목록_조회_요청(MediaType.APPLICATION_CBOR_VALUE);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.contentType()).startsWith(MediaType.APPLICATION_CBOR_VALUE);
+        JsonNode lines = new ObjectMapper(new CBORFactory()).readTree(response.asByteArray());
+        List<String> names = new ArrayList<>();
+        lines.forEach(line -> names.add(line.get("name").asText()));
+        assertThat(names).containsExactly("2호선", "3호선");
+    }
+
     /**
      * Given 지하철 노선을 생성하고
      * When 생성한 지하철 노선을 조회하면
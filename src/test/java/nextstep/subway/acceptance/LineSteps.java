@@ -3,6 +3,7 @@ package nextstep.subway.acceptance;
 import io.restassured.RestAssured;
 import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 
 import java.util.HashMap;
@@ -28,6 +29,22 @@ public class LineSteps {
                 .then().log().all().extract();
     }
 
+    public static ExtractableResponse<Response> 지하철_노선_목록_조회_요청(String accept) {
+        return RestAssured
+                .given().log().all()
+                .accept(accept)
+                .when().get("/lines")
+                .then().log().all().extract();
+    }
+
+    public static ExtractableResponse<Response> 지하철_노선_목록_압축_조회_요청(String acceptEncoding) {
+        return RestAssured
+                .given().log().all()
+                .header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding)
+                .when().get("/lines")
+                .then().log().all().extract();
+    }
+
     public static ExtractableResponse<Response> 지하철_노선_조회_요청(ExtractableResponse<Response> createResponse) {
         return RestAssured
                 .given().log().all()
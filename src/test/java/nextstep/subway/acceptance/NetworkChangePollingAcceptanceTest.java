@@ -0,0 +1,64 @@
+package nextstep.subway.acceptance;
+
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import nextstep.subway.applicaion.NetworkChangePoller;
+import nextstep.subway.applicaion.NetworkChangeRecorder;
+import nextstep.subway.domain.NetworkChange;
+import nextstep.subway.domain.Station;
+import nextstep.subway.domain.StationRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static nextstep.subway.acceptance.PathSteps.지하철_경로_조회_요청;
+import static nextstep.subway.acceptance.StationSteps.지하철역_생성_요청;
+import static nextstep.subway.acceptance.StationSteps.지하철역_이름_검색_요청;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("다른 인스턴스의 변경 반영")
+class NetworkChangePollingAcceptanceTest extends AcceptanceTest {
+    @Autowired
+    private StationRepository stationRepository;
+    @Autowired
+    private NetworkChangeRecorder networkChangeRecorder;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private NetworkChangePoller networkChangePoller;
+
+    /**
+     * Given 역 이름 검색과 경로 조회로 메모리 캐시를 채운 뒤
+     * Given 다른 인스턴스가 같은 데이터베이스에 역을 추가하면
+     * When 변경 로그를 확인하고 나서 역 이름으로 검색할 때
+     * Then 다른 인스턴스가 추가한 역을 찾을 수 있다
+     */
+    @DisplayName("다른 인스턴스가 추가한 역을 변경 로그로 반영한다")
+    @Test
+    void pollNetworkChanges() {
+        // given
+        Long 교대역 = 지하철역_생성_요청("교대역").jsonPath().getLong("id");
+        Long 역삼역 = 지하철역_생성_요청("역삼역").jsonPath().getLong("id");
+        지하철_경로_조회_요청(교대역, 역삼역);
+        지하철역_이름_검색_요청("강", 10);
+
+        // given
+        다른_인스턴스에서_지하철역_생성("강남역");
+
+        // when
+        networkChangePoller.poll();
+        ExtractableResponse<Response> response = 지하철역_이름_검색_요청("강", 10);
+
+        // then
+        assertThat(response.jsonPath().getList("name", String.class)).containsExactly("강남역");
+    }
+
+    private void 다른_인스턴스에서_지하철역_생성(String name) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Station station = stationRepository.save(new Station(name));
+            networkChangeRecorder.record(NetworkChange.stationAdded(station));
+        });
+    }
+}
@@ -0,0 +1,329 @@
+package nextstep.subway.acceptance;
+
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static nextstep.subway.acceptance.LineSteps.지하철_노선_생성_요청;
+import static nextstep.subway.acceptance.LineSteps.지하철_노선에_지하철_구간_생성_요청;
+import static nextstep.subway.acceptance.LineSteps.지하철_노선에_지하철_구간_제거_요청;
+import static nextstep.subway.acceptance.PathSteps.지하철_경로_조회_요청;
+import static nextstep.subway.acceptance.PathSteps.지하철_만남_역_조회_요청;
+import static nextstep.subway.acceptance.PathSteps.지하철_파레토_경로_조회_요청;
+import static nextstep.subway.acceptance.StationSteps.도달_가능한_지하철역_조회_요청;
+import static nextstep.subway.acceptance.StationSteps.지하철역_삭제_요청;
+import static nextstep.subway.acceptance.StationSteps.지하철역_생성_요청;
+import static nextstep.subway.acceptance.StationSteps.지하철역을_지나는_노선_조회_요청;
+import static nextstep.subway.acceptance.StationSteps.환승역_목록_조회_요청;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("지하철 경로 검색")
+class PathAcceptanceTest extends AcceptanceTest {
+    private Long 교대역;
+    private Long 강남역;
+    private Long 양재역;
+    private Long 남부터미널역;
+    private Long 삼호선;
+
+    /**
+     * 교대역    --- *2호선* ---   강남역
+     * |                        |
+     * *3호선*                   *신분당선*
+     * |                        |
+     * 남부터미널역  --- *3호선* ---   양재
+     */
+    @BeforeEach
+    public void setUp() {
+        super.setUp();
+
+        교대역 = 지하철역_생성_요청("교대역").jsonPath().getLong("id");
+        강남역 = 지하철역_생성_요청("강남역").jsonPath().getLong("id");
+        양재역 = 지하철역_생성_요청("양재역").jsonPath().getLong("id");
+        남부터미널역 = 지하철역_생성_요청("남부터미널역").jsonPath().getLong("id");
+
+        지하철_노선_생성_요청(createLineCreateParams("2호선", "green", 교대역, 강남역, 10, 3));
+        Map<String, String> 신분당선 = createLineCreateParams("신분당선", "red", 강남역, 양재역, 10, 3);
+        신분당선.put("surcharge", 900 + "");
+        지하철_노선_생성_요청(신분당선);
+        삼호선 = 지하철_노선_생성_요청(createLineCreateParams("3호선", "orange", 교대역, 남부터미널역, 2, 10))
+                .jsonPath().getLong("id");
+        지하철_노선에_지하철_구간_생성_요청(삼호선, createSectionCreateParams(남부터미널역, 양재역, 3, 10));
+    }
+
+    /**
+     * When 출발역에서 도착역까지의 경로 조회를 요청하면
+     * Then 최단 거리 경로와 거리를 응답받는다
+     */
+    @DisplayName("두 역의 최단 거리 경로를 조회")
+    @Test
+    void findPath() {
+        // when
+        ExtractableResponse<Response> response = 지하철_경로_조회_요청(교대역, 양재역);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.jsonPath().getList("stations.id", Long.class)).containsExactly(교대역, 남부터미널역, 양재역);
+        assertThat(response.jsonPath().getInt("distance")).isEqualTo(5);
+    }
+
+    /**
+     * When 출발역에서 도착역까지의 최소 시간 경로 조회를 요청하면
+     * Then 최소 시간 경로와 거리, 소요 시간을 응답받는다
+     */
+    @DisplayName("두 역의 최소 시간 경로를 조회")
+    @Test
+    void findMinimumDurationPath() {
+        // when
+        ExtractableResponse<Response> response = 지하철_경로_조회_요청(교대역, 양재역, "DURATION");
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.jsonPath().getList("stations.id", Long.class)).containsExactly(교대역, 강남역, 양재역);
+        assertThat(response.jsonPath().getInt("distance")).isEqualTo(20);
+        assertThat(response.jsonPath().getInt("duration")).isEqualTo(6);
+    }
+
+    /**
+     * When 추가 요금이 있는 노선을 지나는 경로와 지나지 않는 경로를 조회하면
+     * Then 거리 구간 요금에 지나는 노선의 추가 요금을 더한 요금을 응답받는다
+     */
+    @DisplayName("경로의 요금을 조회")
+    @Test
+    void findPathFare() {
+        // when
+        ExtractableResponse<Response> distanceResponse = 지하철_경로_조회_요청(교대역, 양재역);
+        ExtractableResponse<Response> durationResponse = 지하철_경로_조회_요청(교대역, 양재역, "DURATION");
+
+        // then
+        assertThat(distanceResponse.jsonPath().getInt("fare")).isEqualTo(1250);
+        assertThat(durationResponse.jsonPath().getInt("fare")).isEqualTo(1450 + 900);
+    }
+
+    /**
+     * When 한 노선으로만 가는 경로 조회를 요청하면
+     * Then 노선 하나의 구간 묶음과 빈 환승역 목록을 응답받는다
+     * When 환승이 있는 경로 조회를 요청하면
+     * Then 노선별 구간 묶음과 거리, 환승역을 응답받는다
+     */
+    @DisplayName("경로의 노선별 구간과 환승역을 조회")
+    @Test
+    void findPathSegments() {
+        // when
+        ExtractableResponse<Response> response = 지하철_경로_조회_요청(교대역, 양재역);
+
+        // then
+        assertThat(response.jsonPath().getList("segments.line.id", Long.class)).containsExactly(삼호선);
+        assertThat(response.jsonPath().getInt("segments[0].sections")).isEqualTo(2);
+        assertThat(response.jsonPath().getInt("segments[0].distance")).isEqualTo(5);
+        assertThat(response.jsonPath().getList("transferStations")).isEmpty();
+
+        // when
+        response = 지하철_경로_조회_요청(교대역, 양재역, "DURATION");
+
+        // then
+        assertThat(response.jsonPath().getList("segments.line.name", String.class)).containsExactly("2호선", "신분당선");
+        assertThat(response.jsonPath().getList("segments.line.color", String.class)).containsExactly("green", "red");
+        assertThat(response.jsonPath().getList("segments.departure.id", Long.class)).containsExactly(교대역, 강남역);
+        assertThat(response.jsonPath().getList("segments.arrival.id", Long.class)).containsExactly(강남역, 양재역);
+        assertThat(response.jsonPath().getList("segments.distance", Integer.class)).containsExactly(10, 10);
+        assertThat(response.jsonPath().getList("transferStations.id", Long.class)).containsExactly(강남역);
+    }
+
+    /**
+     * When 출발역에서 도착역까지 거리와 소요 시간 기준의 경로 조회를 요청하면
+     * Then 서로 우열을 가릴 수 없는 경로들을 거리 순으로 응답받는다
+     */
+    @DisplayName("거리와 소요 시간 기준의 파레토 최적 경로를 조회")
+    @Test
+    void findParetoPaths() {
+        // when
+        ExtractableResponse<Response> response = 지하철_파레토_경로_조회_요청(교대역, 양재역);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.jsonPath().getList("distance", Integer.class)).containsExactly(5, 20);
+        assertThat(response.jsonPath().getList("duration", Integer.class)).containsExactly(20, 6);
+    }
+
+    /**
+     * Given 강남역과 남부터미널역을 바로 잇는 노선을 생성하고
+     * When 최소 환승 경로 조회를 요청하면
+     * Then 거리가 더 길더라도 환승이 없는 경로를 응답받는다
+     */
+    @DisplayName("두 역의 최소 환승 경로를 조회")
+    @Test
+    void findFewestTransfersPath() {
+        // given
+        지하철_노선_생성_요청(createLineCreateParams("9호선", "gold", 강남역, 남부터미널역, 20, 20));
+
+        // when
+        ExtractableResponse<Response> distanceResponse = 지하철_경로_조회_요청(강남역, 남부터미널역);
+        ExtractableResponse<Response> transferResponse = 지하철_경로_조회_요청(강남역, 남부터미널역, "TRANSFER");
+
+        // then
+        assertThat(distanceResponse.jsonPath().getList("stations.id", Long.class)).containsExactly(강남역, 교대역, 남부터미널역);
+        assertThat(distanceResponse.jsonPath().getInt("transfers")).isEqualTo(1);
+        assertThat(transferResponse.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(transferResponse.jsonPath().getList("stations.id", Long.class)).containsExactly(강남역, 남부터미널역);
+        assertThat(transferResponse.jsonPath().getInt("distance")).isEqualTo(20);
+        assertThat(transferResponse.jsonPath().getInt("transfers")).isEqualTo(0);
+    }
+
+    /**
+     * Given 어느 노선에도 등록되지 않은 역을 생성하고
+     * When 그 역까지의 경로 조회를 요청하면
+     * Then 경로 조회에 실패한다
+     */
+    @DisplayName("연결되지 않은 역의 경로를 조회")
+    @Test
+    void findPathToUnconnectedStation() {
+        // given
+        Long 신논현역 = 지하철역_생성_요청("신논현역").jsonPath().getLong("id");
+
+        // when
+        ExtractableResponse<Response> response = 지하철_경로_조회_요청(교대역, 신논현역);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    /**
+     * When 출발역과 최대 거리로 도달 가능한 역 조회를 요청하면
+     * Then 최대 거리 이내의 역을 가까운 순서대로 응답받는다
+     */
+    @DisplayName("최대 거리 이내에 도달 가능한 역을 조회")
+    @Test
+    void findReachableStations() {
+        // when
+        ExtractableResponse<Response> response = 도달_가능한_지하철역_조회_요청(교대역, 5);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.jsonPath().getList("id", Long.class)).containsExactly(교대역, 남부터미널역, 양재역);
+        assertThat(response.jsonPath().getList("distance", Integer.class)).containsExactly(0, 2, 5);
+    }
+
+    /**
+     * When 여러 출발역에서 최대 이동 거리가 가장 짧은 만남 역 조회를 요청하면
+     * Then 만남 역과 출발역별 거리를 응답받는다
+     * When 거리 합이 가장 짧은 만남 역 조회를 요청하면
+     * Then 거리 합 기준의 만남 역을 응답받는다
+     */
+    @DisplayName("여러 출발역의 만남 역을 조회")
+    @Test
+    void findMeetingPoint() {
+        // when
+        ExtractableResponse<Response> response = 지하철_만남_역_조회_요청("MAX", 강남역, 남부터미널역, 양재역);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.jsonPath().getLong("station.id")).isEqualTo(교대역);
+        assertThat(response.jsonPath().getInt("cost")).isEqualTo(10);
+        assertThat(response.jsonPath().getList("distances", Integer.class)).containsExactly(10, 2, 5);
+
+        // when
+        response = 지하철_만남_역_조회_요청("TOTAL", 강남역, 남부터미널역, 양재역);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.jsonPath().getLong("station.id")).isEqualTo(양재역);
+        assertThat(response.jsonPath().getInt("cost")).isEqualTo(13);
+    }
+
+    /**
+     * Given 경로를 한 번 조회한 뒤
+     * When 새 역과 구간을 추가하면
+     * Then 추가한 구간을 지나는 경로를 조회할 수 있다
+     * When 추가한 구간을 제거하면
+     * Then 그 역까지의 경로 조회에 실패한다
+     */
+    @DisplayName("구간 변경이 경로 조회에 반영된다")
+    @Test
+    void findPathAfterSectionChanges() {
+        // given
+        지하철_경로_조회_요청(교대역, 양재역);
+
+        // when
+        Long 매봉역 = 지하철역_생성_요청("매봉역").jsonPath().getLong("id");
+        지하철_노선에_지하철_구간_생성_요청(삼호선, createSectionCreateParams(양재역, 매봉역, 4, 5));
+
+        // then
+        ExtractableResponse<Response> response = 지하철_경로_조회_요청(교대역, 매봉역);
+        assertThat(response.jsonPath().getList("stations.id", Long.class)).containsExactly(교대역, 남부터미널역, 양재역, 매봉역);
+        assertThat(response.jsonPath().getInt("distance")).isEqualTo(9);
+
+        // when
+        지하철_노선에_지하철_구간_제거_요청(삼호선, 매봉역);
+
+        // then
+        assertThat(지하철_경로_조회_요청(교대역, 매봉역).statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    /**
+     * When 지하철역을 지나는 노선 조회를 요청하면
+     * Then 그 역에 구간이 있는 노선을 응답받는다
+     * When 환승역 목록 조회를 요청하면
+     * Then 두 개 이상의 노선이 지나는 역과 그 노선들을 응답받는다
+     */
+    @DisplayName("지하철역을 지나는 노선과 환승역을 조회")
+    @Test
+    void findLinesThroughStation() {
+        // when
+        ExtractableResponse<Response> response = 지하철역을_지나는_노선_조회_요청(교대역);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.jsonPath().getList("name", String.class)).containsExactly("2호선", "3호선");
+
+        // when
+        response = 환승역_목록_조회_요청();
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.jsonPath().getList("id", Long.class)).containsExactly(교대역, 강남역, 양재역);
+        assertThat(response.jsonPath().getList("[1].lines.name", String.class)).containsExactly("2호선", "신분당선");
+    }
+
+    /**
+     * When 구간에 등록된 지하철역 삭제를 요청하면
+     * Then 삭제에 실패하고 경로 조회에 그 역이 그대로 쓰인다
+     */
+    @DisplayName("구간에 등록된 지하철역은 삭제할 수 없다")
+    @Test
+    void deleteStationInSection() {
+        // when
+        ExtractableResponse<Response> response = 지하철역_삭제_요청(남부터미널역);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        assertThat(지하철_경로_조회_요청(교대역, 양재역).jsonPath().getList("stations.id", Long.class))
+                .containsExactly(교대역, 남부터미널역, 양재역);
+    }
+
+    private Map<String, String> createLineCreateParams(String name, String color, Long upStationId, Long downStationId,
+                                                       int distance, int duration) {
+        Map<String, String> params = new HashMap<>();
+        params.put("name", name);
+        params.put("color", color);
+        params.put("upStationId", upStationId + "");
+        params.put("downStationId", downStationId + "");
+        params.put("distance", distance + "");
+        params.put("duration", duration + "");
+        return params;
+    }
+
+    private Map<String, String> createSectionCreateParams(Long upStationId, Long downStationId, int distance, int duration) {
+        Map<String, String> params = new HashMap<>();
+        params.put("upStationId", upStationId + "");
+        params.put("downStationId", downStationId + "");
+        params.put("distance", distance + "");
+        params.put("duration", duration + "");
+        return params;
+    }
+}
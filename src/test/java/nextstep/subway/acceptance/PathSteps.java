@@ -0,0 +1,37 @@
+package nextstep.subway.acceptance;
+
+import io.restassured.RestAssured;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+
+public class PathSteps {
+    public static ExtractableResponse<Response> 지하철_경로_조회_요청(Long source, Long target) {
+        return RestAssured
+                .given().log().all()
+                .when().get("/paths?source={source}&target={target}", source, target)
+                .then().log().all().extract();
+    }
+
+    public static ExtractableResponse<Response> 지하철_경로_조회_요청(Long source, Long target, String type) {
+        return RestAssured
+                .given().log().all()
+                .when().get("/paths?source={source}&target={target}&type={type}", source, target, type)
+                .then().log().all().extract();
+    }
+
+    public static ExtractableResponse<Response> 지하철_파레토_경로_조회_요청(Long source, Long target) {
+        return RestAssured
+                .given().log().all()
+                .when().get("/paths/pareto?source={source}&target={target}", source, target)
+                .then().log().all().extract();
+    }
+
+    public static ExtractableResponse<Response> 지하철_만남_역_조회_요청(String objective, Long... origins) {
+        return RestAssured
+                .given().log().all()
+                .queryParam("origins", (Object[]) origins)
+                .queryParam("objective", objective)
+                .when().get("/paths/meeting-point")
+                .then().log().all().extract();
+    }
+}
@@ -0,0 +1,158 @@
+package nextstep.subway.acceptance;
+
+import nextstep.subway.domain.Line;
+import nextstep.subway.domain.LineRepository;
+import nextstep.subway.domain.Station;
+import nextstep.subway.domain.StationRepository;
+import nextstep.subway.utils.DatabaseCleanup;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 리포지토리 메서드와 지연 로딩이 실제로 내보내는 SQL 을 Hibernate 에서 가로채 H2 실행 계획을 확인한다.
+ * 구간 조회는 Section 에 선언한 인덱스 이름이 계획에 나타나야 한다.
+ * H2 는 외래 키마다 인덱스를 스스로 만들기 때문에 tableScan 이 없다는 것만으로는 선언한 인덱스가 쓰이는지 알 수 없다.
+ */
+@ActiveProfiles("test")
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=nextstep.subway.acceptance.QueryPlanTest$RecordingStatementInspector")
+class QueryPlanTest {
+    private static final String LINE_STATIONS_UNIQUE_INDEX = "UK_SECTION_LINE_STATIONS";
+    private static final String UP_STATION_INDEX = "IDX_SECTION_UP_STATION";
+    private static final String DOWN_STATION_INDEX = "IDX_SECTION_DOWN_STATION";
+
+    @Autowired
+    private DatabaseCleanup databaseCleanup;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private LineRepository lineRepository;
+    @Autowired
+    private StationRepository stationRepository;
+
+    private Long lineId;
+    private Long stationId;
+
+    @BeforeEach
+    void setUp() {
+        databaseCleanup.execute();
+        lineId = lineRepository.save(new Line("2호선", "green")).getId();
+        stationId = stationRepository.save(new Station("강남역")).getId();
+    }
+
+    @DisplayName("노선을 식별자로 조회")
+    @Test
+    void findLineById() {
+        String plan = explainRecorded(() -> lineRepository.findById(lineId));
+
+        assertThat(plan).contains("LINE").doesNotContain(tableScan("line"));
+    }
+
+    @DisplayName("역을 식별자로 조회")
+    @Test
+    void findStationsById() {
+        String plan = explainRecorded(() -> stationRepository.findAllById(Arrays.asList(stationId, stationId + 1)));
+
+        assertThat(plan).contains("STATION").doesNotContain(tableScan("station"));
+    }
+
+    @DisplayName("노선의 구간을 지연 로딩하면 노선과 역으로 만든 유니크 인덱스를 쓴다")
+    @Test
+    void loadSectionsOfLine() {
+        String plan = explainRecorded(() -> lineRepository.findById(lineId).orElseThrow().getSections().size());
+
+        assertThat(plan).contains(LINE_STATIONS_UNIQUE_INDEX).doesNotContain(tableScan("section"));
+    }
+
+    @DisplayName("구간을 포함한 전체 노선 조회는 노선과 역으로 만든 유니크 인덱스로 구간을 붙인다")
+    @Test
+    void findAllLinesWithSections() {
+        String plan = explainRecorded(() -> lineRepository.findAllWithSections());
+
+        assertThat(plan).contains(LINE_STATIONS_UNIQUE_INDEX).doesNotContain(tableScan("section"));
+    }
+
+    @DisplayName("역을 지울 때 구간을 확인하는 외래 키는 선언한 상행역, 하행역 인덱스를 쓴다")
+    @Test
+    void stationForeignKeysUseDeclaredIndexes() {
+        assertThat(foreignKeyIndex("UP_STATION_ID")).startsWith(UP_STATION_INDEX);
+        assertThat(foreignKeyIndex("DOWN_STATION_ID")).startsWith(DOWN_STATION_INDEX);
+    }
+
+    private String explainRecorded(Runnable query) {
+        List<String> statements = new TransactionTemplate(transactionManager).execute(status -> {
+            RecordingStatementInspector.start();
+            try {
+                query.run();
+                return RecordingStatementInspector.recorded();
+            } finally {
+                RecordingStatementInspector.stop();
+            }
+        });
+        return statements.stream()
+                .map(this::explain)
+                .collect(Collectors.joining("\n"));
+    }
+
+    private String explain(String sql) {
+        Object[] parameters = new Object[(int) sql.chars().filter(ch -> ch == '?').count()];
+        Arrays.fill(parameters, lineId);
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, parameters).toUpperCase();
+    }
+
+    private String foreignKeyIndex(String column) {
+        return jdbcTemplate.queryForObject(
+                "select c.index_name from information_schema.table_constraints c"
+                        + " join information_schema.key_column_usage k on k.constraint_name = c.constraint_name"
+                        + " where c.table_name = 'SECTION' and c.constraint_type = 'FOREIGN KEY' and k.column_name = ?",
+                String.class, column);
+    }
+
+    private static String tableScan(String table) {
+        return ("." + table + ".tableScan").toUpperCase();
+    }
+
+    /**
+     * 기록을 시작한 테스트 스레드가 내보내는 SQL 만 모은다. 워밍업이나 변경 폴링 스레드의 쿼리는 섞이지 않는다.
+     */
+    public static class RecordingStatementInspector implements StatementInspector {
+        private static final ThreadLocal<List<String>> RECORDED = new ThreadLocal<>();
+
+        static void start() {
+            RECORDED.set(new ArrayList<>());
+        }
+
+        static List<String> recorded() {
+            return new ArrayList<>(RECORDED.get());
+        }
+
+        static void stop() {
+            RECORDED.remove();
+        }
+
+        @Override
+        public String inspect(String sql) {
+            List<String> recorded = RECORDED.get();
+            if (recorded != null) {
+                recorded.add(sql);
+            }
+            return sql;
+        }
+    }
+}
@@ -73,6 +73,38 @@ class SectionAcceptanceTest extends AcceptanceTest {
         assertThat(response.jsonPath().getList("stations.id", Long.class)).containsExactly(강남역, 양재역);
     }
 
+    /**
+     * When 지하철 노선에 이미 등록된 구간과 같은 구간 추가를 요청 하면
+     * Then 구간 추가에 실패하고 노선의 구간은 그대로다
+     */
+    @DisplayName("이미 등록된 구간은 다시 등록할 수 없다")
+    @Test
+    void addDuplicateLineSection() {
+        // when
+        ExtractableResponse<Response> createResponse = 지하철_노선에_지하철_구간_생성_요청(신분당선, createSectionCreateParams(강남역, 양재역));
+
+        // then
+        assertThat(createResponse.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        ExtractableResponse<Response> response = 지하철_노선_조회_요청(신분당선);
+        assertThat(response.jsonPath().getList("stations.id", Long.class)).containsExactly(강남역, 양재역);
+    }
+
+    /**
+     * When 존재하지 않는 역으로 구간 추가를 요청 하면
+     * Then 구간 추가에 실패하고 노선의 구간은 그대로다
+     */
+    @DisplayName("존재하지 않는 역으로는 구간을 등록할 수 없다")
+    @Test
+    void addLineSectionWithUnknownStation() {
+        // when
+        ExtractableResponse<Response> createResponse = 지하철_노선에_지하철_구간_생성_요청(신분당선, createSectionCreateParams(양재역, 100L));
+
+        // then
+        assertThat(createResponse.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        ExtractableResponse<Response> response = 지하철_노선_조회_요청(신분당선);
+        assertThat(response.jsonPath().getList("stations.id", Long.class)).containsExactly(강남역, 양재역);
+    }
+
     private Map<String, String> createLineCreateParams(Long upStationId, Long downStationId) {
         Map<String, String> lineCreateParams;
         lineCreateParams = new HashMap<>();
@@ -8,9 +8,15 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static nextstep.subway.acceptance.StationSteps.지하철역_생성_요청;
+import static nextstep.subway.acceptance.StationSteps.지하철역_이름_검색_요청;
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DisplayName("지하철역 관련 기능")
@@ -89,4 +95,65 @@ public class StationAcceptanceTest extends AcceptanceTest {
                         .extract().jsonPath().getList("name", String.class);
         assertThat(stationNames).doesNotContain("강남역");
     }
-}
\ No newline at end of file
+
+    /**
+     * Given 지하철역을 생성하고 이름으로 한 번 검색한 뒤
+     * Given 지하철역을 더 생성하고 그 중 하나를 삭제하면
+     * When 이름 접두어로 지하철역을 검색할 때
+     * Then 생성과 삭제가 반영된 역 중 접두어로 시작하는 역을 이름순으로 최대 limit 개 응답 받는다
+     */
+    @DisplayName("지하철역을 이름 접두어로 검색한다.")
+    @Test
+    void searchStations() {
+        // given
+        지하철역_생성_요청("강남역");
+        Long 강변역 = 지하철역_생성_요청("강변역").jsonPath().getLong("id");
+        지하철역_생성_요청("역삼역");
+        지하철역_이름_검색_요청("강", 10);
+
+        // given
+        지하철역_생성_요청("강동역");
+        지하철역_생성_요청("강일역");
+        RestAssured.given().log().all()
+                .when().delete("/stations/" + 강변역)
+                .then().log().all();
+
+        // when
+        ExtractableResponse<Response> response = 지하철역_이름_검색_요청("강", 3);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.jsonPath().getList("name", String.class)).containsExactly("강남역", "강동역", "강일역");
+    }
+
+    /**
+     * When 데이터베이스를 비운 직후 여러 요청이 동시에 지하철역을 생성하면
+     * Then 모든 지하철역이 생성된다
+     */
+    @DisplayName("지하철역을 동시에 생성한다.")
+    @Test
+    void createStationsConcurrently() throws Exception {
+        // when
+        int count = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(count);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> statusCodes = new ArrayList<>();
+        try {
+            for (int i = 0; i < count; i++) {
+                String name = i + "역";
+                statusCodes.add(executor.submit(() -> {
+                    start.await();
+                    return 지하철역_생성_요청(name).statusCode();
+                }));
+            }
+            start.countDown();
+
+            // then
+            for (Future<Integer> statusCode : statusCodes) {
+                assertThat(statusCode.get()).isEqualTo(HttpStatus.CREATED.value());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
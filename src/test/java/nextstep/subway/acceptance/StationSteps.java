@@ -20,4 +20,44 @@ public class StationSteps {
                 .then().log().all()
                 .extract();
     }
+
+    public static ExtractableResponse<Response> 도달_가능한_지하철역_조회_요청(Long source, int maxDistance) {
+        return RestAssured.given().log().all()
+                .when()
+                .get("/stations/reachable?source={source}&maxDistance={maxDistance}", source, maxDistance)
+                .then().log().all()
+                .extract();
+    }
+
+    public static ExtractableResponse<Response> 지하철역_이름_검색_요청(String prefix, int limit) {
+        return RestAssured.given().log().all()
+                .when()
+                .get("/stations/search?prefix={prefix}&limit={limit}", prefix, limit)
+                .then().log().all()
+                .extract();
+    }
+
+    public static ExtractableResponse<Response> 지하철역을_지나는_노선_조회_요청(Long stationId) {
+        return RestAssured.given().log().all()
+                .when()
+                .get("/stations/{id}/lines", stationId)
+                .then().log().all()
+                .extract();
+    }
+
+    public static ExtractableResponse<Response> 환승역_목록_조회_요청() {
+        return RestAssured.given().log().all()
+                .when()
+                .get("/stations/transfers")
+                .then().log().all()
+                .extract();
+    }
+
+    public static ExtractableResponse<Response> 지하철역_삭제_요청(Long stationId) {
+        return RestAssured.given().log().all()
+                .when()
+                .delete("/stations/{id}", stationId)
+                .then().log().all()
+                .extract();
+    }
 }
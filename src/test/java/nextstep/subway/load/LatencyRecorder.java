@@ -0,0 +1,54 @@
+package nextstep.subway.load;
+
+import java.util.Arrays;
+
+public class LatencyRecorder {
+    private final String name;
+    private long[] latencies = new long[1024];
+    private int count;
+    private int errors;
+
+    public LatencyRecorder(String name) {
+        this.name = name;
+    }
+
+    public synchronized void record(long latencyNanos, boolean success) {
+        if (!success) {
+            errors++;
+        }
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = latencyNanos;
+    }
+
+    public synchronized int getCount() {
+        return count;
+    }
+
+    public synchronized int getErrors() {
+        return errors;
+    }
+
+    public synchronized String report() {
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        return String.format("%-24s n=%-7d errors=%-5d p50=%8.2fms p90=%8.2fms p99=%8.2fms p99.9=%8.2fms max=%8.2fms",
+                name, count, errors,
+                millis(percentile(sorted, 0.50)), millis(percentile(sorted, 0.90)),
+                millis(percentile(sorted, 0.99)), millis(percentile(sorted, 0.999)),
+                millis(count == 0 ? 0 : sorted[count - 1]));
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,105 @@
+package nextstep.subway.load;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 목표 처리량에 맞춰 요청 시작 시각을 미리 정해두는 open-loop 부하 발생기.
+ * 지연 시간은 실제 전송 시각이 아니라 예정된 시작 시각부터 측정하므로 서버가 밀려도 측정값이 왜곡되지 않는다.
+ */
+public class LoadGenerator {
+    private final List<LoadOperation> operations;
+    private final int totalWeight;
+    private final double requestsPerSecond;
+    private final Duration duration;
+    private final long seed;
+
+    private final LatencyRecorder total = new LatencyRecorder("total");
+    private long elapsedNanos;
+
+    public LoadGenerator(List<LoadOperation> operations, double requestsPerSecond, Duration duration, long seed) {
+        this.operations = operations;
+        this.totalWeight = operations.stream().mapToInt(LoadOperation::getWeight).sum();
+        this.requestsPerSecond = requestsPerSecond;
+        this.duration = duration;
+        this.seed = seed;
+    }
+
+    public void run(int concurrency) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        HttpClient client = HttpClient.newBuilder()
+                .executor(executor)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        Random random = new Random(seed);
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / requestsPerSecond);
+        long requests = (long) (duration.toNanos() / intervalNanos);
+        CompletableFuture<?>[] inFlight = new CompletableFuture<?>[(int) requests];
+
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            long scheduledAt = startedAt + i * intervalNanos;
+            waitUntil(scheduledAt);
+
+            LoadOperation operation = pick(random);
+            inFlight[i] = client.sendAsync(operation.createRequest(random), HttpResponse.BodyHandlers.discarding())
+                    .handle((response, error) -> {
+                        long latency = System.nanoTime() - scheduledAt;
+                        boolean success = error == null && response.statusCode() < 400;
+                        operation.getRecorder().record(latency, success);
+                        total.record(latency, success);
+                        return null;
+                    });
+        }
+        CompletableFuture.allOf(inFlight).join();
+        elapsedNanos = System.nanoTime() - startedAt;
+
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    private void waitUntil(long scheduledAt) {
+        long remaining;
+        while ((remaining = scheduledAt - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    private LoadOperation pick(Random random) {
+        int value = random.nextInt(totalWeight);
+        for (LoadOperation operation : operations) {
+            value -= operation.getWeight();
+            if (value < 0) {
+                return operation;
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    public double getThroughput() {
+        return total.getCount() / (elapsedNanos / 1_000_000_000.0);
+    }
+
+    public double getErrorRate() {
+        return total.getCount() == 0 ? 0 : (double) total.getErrors() / total.getCount();
+    }
+
+    public String report() {
+        StringBuilder report = new StringBuilder()
+                .append(String.format("target=%.1f req/s, achieved=%.1f req/s, elapsed=%.1fs%n",
+                        requestsPerSecond, getThroughput(), elapsedNanos / 1_000_000_000.0));
+        for (LoadOperation operation : operations) {
+            report.append(operation.getRecorder().report()).append(System.lineSeparator());
+        }
+        return report.append(total.report()).toString();
+    }
+}
@@ -0,0 +1,35 @@
+package nextstep.subway.load;
+
+import java.net.http.HttpRequest;
+import java.util.Random;
+import java.util.function.Function;
+
+public class LoadOperation {
+    private final String name;
+    private final int weight;
+    private final Function<Random, HttpRequest> requestFactory;
+    private final LatencyRecorder recorder;
+
+    public LoadOperation(String name, int weight, Function<Random, HttpRequest> requestFactory) {
+        this.name = name;
+        this.weight = weight;
+        this.requestFactory = requestFactory;
+        this.recorder = new LatencyRecorder(name);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getWeight() {
+        return weight;
+    }
+
+    public HttpRequest createRequest(Random random) {
+        return requestFactory.apply(random);
+    }
+
+    public LatencyRecorder getRecorder() {
+        return recorder;
+    }
+}
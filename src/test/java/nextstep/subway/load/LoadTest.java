@@ -0,0 +1,163 @@
+package nextstep.subway.load;
+
+import nextstep.subway.acceptance.AcceptanceTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.TestPropertySource;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static nextstep.subway.acceptance.LineSteps.지하철_노선_생성_요청;
+import static nextstep.subway.acceptance.LineSteps.지하철_노선에_지하철_구간_생성_요청;
+import static nextstep.subway.acceptance.StationSteps.지하철역_생성_요청;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ./gradlew loadTest -Dload.rate=500 -Dload.duration=60 처럼 실행한다.
+ */
+@Tag("load")
+@DisplayName("지하철 노선도 부하 테스트")
+@TestPropertySource(properties = {
+        "logback.access.enabled=false",
+        "spring.jpa.properties.hibernate.show_sql=false",
+        "subway.warm-up.enabled=false"
+})
+class LoadTest extends AcceptanceTest {
+    private static final int LINES = Integer.getInteger("load.lines", 8);
+    private static final int STATIONS_PER_LINE = Integer.getInteger("load.stationsPerLine", 20);
+    private static final double RATE = Double.parseDouble(System.getProperty("load.rate", "200"));
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("load.duration", 30L));
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 32);
+    private static final long SEED = Long.getLong("load.seed", 0L);
+    private static final double MAX_ERROR_RATE = Double.parseDouble(System.getProperty("load.maxErrorRate", "0.01"));
+    private static final double MIN_THROUGHPUT_RATIO = Double.parseDouble(System.getProperty("load.minThroughputRatio", "0.9"));
+
+    @LocalServerPort
+    private int port;
+
+    private final List<Long> stationIds = new ArrayList<>();
+    private final List<Long> lineIds = new ArrayList<>();
+
+    /**
+     * Given 환승역으로 서로 연결된 노선들로 구성된 지하철 노선도를 만들고
+     * When 조회와 변경이 섞인 요청을 목표 처리량으로 보내면
+     * Then 오류율과 처리량이 기준을 만족한다
+     */
+    @DisplayName("조회와 변경이 섞인 요청을 목표 처리량으로 처리한다")
+    @Test
+    void mixedTraffic() throws InterruptedException {
+        // given
+        seedNetwork();
+
+        // when
+        LoadGenerator generator = new LoadGenerator(Arrays.asList(
+                new LoadOperation("GET /paths", 50, random -> randomPath(random)),
+                new LoadOperation("GET /lines", 20, random -> get("/lines")),
+                new LoadOperation("GET /lines/{id}", 10, random -> get("/lines/" + randomLine(random))),
+                new LoadOperation("GET /stations", 10, random -> get("/stations")),
+                new LoadOperation("POST /stations", 5, random -> post("/stations",
+                        "{\"name\":\"부하역" + random.nextInt() + "\"}")),
+                new LoadOperation("PUT /lines/{id}", 5, random -> put("/lines/" + randomLine(random),
+                        "{\"color\":\"bg-" + random.nextInt(1000) + "\"}"))
+        ), RATE, DURATION, SEED);
+        generator.run(CONCURRENCY);
+
+        // then
+        System.out.println(generator.report());
+        assertThat(generator.getErrorRate()).isLessThanOrEqualTo(MAX_ERROR_RATE);
+        assertThat(generator.getThroughput()).isGreaterThanOrEqualTo(RATE * MIN_THROUGHPUT_RATIO);
+    }
+
+    private void seedNetwork() {
+        Long transferStation = null;
+        for (int line = 0; line < LINES; line++) {
+            List<Long> stations = new ArrayList<>();
+            stations.add(transferStation != null ? transferStation : createStation(line, 0));
+            for (int i = 1; i < STATIONS_PER_LINE; i++) {
+                stations.add(createStation(line, i));
+            }
+
+            Long lineId = 지하철_노선_생성_요청(createLineCreateParams(line, stations.get(0), stations.get(1)))
+                    .jsonPath().getLong("id");
+            for (int i = 2; i < stations.size(); i++) {
+                지하철_노선에_지하철_구간_생성_요청(lineId, createSectionCreateParams(stations.get(i - 1), stations.get(i)));
+            }
+
+            lineIds.add(lineId);
+            transferStation = stations.get(stations.size() / 2);
+        }
+    }
+
+    private Long createStation(int line, int index) {
+        Long id = 지하철역_생성_요청(line + "호선" + index + "역").jsonPath().getLong("id");
+        stationIds.add(id);
+        return id;
+    }
+
+    private Map<String, String> createLineCreateParams(int line, Long upStationId, Long downStationId) {
+        Map<String, String> params = new HashMap<>();
+        params.put("name", line + "호선");
+        params.put("color", "bg-" + line);
+        params.put("upStationId", upStationId + "");
+        params.put("downStationId", downStationId + "");
+        params.put("distance", 5 + "");
+        return params;
+    }
+
+    private Map<String, String> createSectionCreateParams(Long upStationId, Long downStationId) {
+        Map<String, String> params = new HashMap<>();
+        params.put("upStationId", upStationId + "");
+        params.put("downStationId", downStationId + "");
+        params.put("distance", 3 + "");
+        return params;
+    }
+
+    private Long randomStation(Random random) {
+        return stationIds.get(random.nextInt(stationIds.size()));
+    }
+
+    private HttpRequest randomPath(Random random) {
+        Long source = randomStation(random);
+        Long target = randomStation(random);
+        while (target.equals(source)) {
+            target = randomStation(random);
+        }
+        return get("/paths?source=" + source + "&target=" + target);
+    }
+
+    private Long randomLine(Random random) {
+        return lineIds.get(random.nextInt(lineIds.size()));
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(uri(path)).GET().build();
+    }
+
+    private HttpRequest post(String path, String body) {
+        return HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private HttpRequest put(String path, String body) {
+        return HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+}
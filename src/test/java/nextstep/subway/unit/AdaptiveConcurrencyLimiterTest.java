@@ -0,0 +1,99 @@
+package nextstep.subway.unit;
+
+import nextstep.subway.applicaion.AdaptiveConcurrencyLimiter;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimiterTest {
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(1_000);
+
+    @Test
+    void tryAcquireUpToLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, 100, 0.5);
+
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void increaseLimitWhenBusyAndFast() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, 100, 0.5);
+
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire();
+            limiter.tryAcquire();
+            limiter.release(FAST, false);
+            limiter.release(FAST, false);
+        }
+
+        assertThat(limiter.getLimit()).isGreaterThan(2);
+    }
+
+    @Test
+    void keepLimitWhenIdle() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4, 1, 10, 100, 0.5);
+
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire();
+            limiter.release(FAST, false);
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(4);
+    }
+
+    @Test
+    void decreaseLimitWhenSlow() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(8, 1, 10, 100, 0.5);
+
+        limiter.tryAcquire();
+        limiter.release(SLOW, false);
+
+        assertThat(limiter.getLimit()).isEqualTo(4);
+    }
+
+    @Test
+    void decreaseLimitOnceForRequestsInFlightTogether() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(8, 1, 10, 100, 0.5);
+        for (int i = 0; i < 8; i++) {
+            limiter.tryAcquire();
+        }
+
+        for (int i = 0; i < 8; i++) {
+            limiter.release(SLOW, false);
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(4);
+    }
+
+    @Test
+    void decreaseLimitAgainAfterPreviousRequestsAreReleased() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(8, 1, 10, 100, 0.5);
+        limiter.tryAcquire();
+        limiter.tryAcquire();
+        limiter.release(SLOW, true);
+        limiter.release(SLOW, true);
+
+        limiter.tryAcquire();
+        limiter.release(SLOW, true);
+
+        assertThat(limiter.getLimit()).isEqualTo(2);
+    }
+
+    @Test
+    void decreaseLimitWhenDroppedButNotBelowMinimum() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, 100, 0.5);
+
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire();
+            limiter.release(FAST, true);
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(1);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+}
@@ -0,0 +1,25 @@
+package nextstep.subway.unit;
+
+import nextstep.subway.domain.FareTable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FareTableTest {
+    @ParameterizedTest
+    @CsvSource({"1, 1250", "10, 1250", "11, 1350", "15, 1350", "16, 1450", "50, 2050", "51, 2150", "58, 2150", "59, 2250"})
+    void distanceFare(int distance, int fare) {
+        FareTable fareTable = new FareTable(100);
+
+        assertThat(fareTable.distanceFare(distance)).isEqualTo(fare);
+    }
+
+    @Test
+    void distanceFareBeyondTable() {
+        FareTable fareTable = new FareTable(10);
+
+        assertThat(fareTable.distanceFare(59)).isEqualTo(2250);
+    }
+}
@@ -0,0 +1,158 @@
+package nextstep.subway.unit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import nextstep.subway.applicaion.CompactPathEngine;
+import nextstep.subway.applicaion.JgraphtPathEngine;
+import nextstep.subway.applicaion.PathEngines;
+import nextstep.subway.applicaion.PathService;
+import nextstep.subway.applicaion.SubwayGraphService;
+import nextstep.subway.domain.MeetingObjective;
+import nextstep.subway.domain.PathEngine;
+import nextstep.subway.domain.PathType;
+import nextstep.subway.domain.Station;
+import nextstep.subway.domain.SubwayGraph;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class FlightRecorderEventTest {
+    private static final String PATH_SEARCH = "nextstep.subway.PathSearch";
+
+    @Test
+    void recordShortestPathSearch() throws IOException {
+        SubwayGraph graph = createGraph();
+        PathService pathService = createPathService(graph, "compact");
+
+        List<RecordedEvent> events = record(() -> {
+            pathService.findPath(1L, 3L);
+            assertThatThrownBy(() -> pathService.findPath(1L, 4L))
+                    .isInstanceOf(IllegalArgumentException.class);
+        });
+
+        assertThat(events).hasSize(2);
+        RecordedEvent found = events.get(0);
+        assertThat(found.getString("search")).isEqualTo("SHORTEST");
+        assertThat(found.getString("engine")).isEqualTo("compact");
+        assertThat(found.getLong("graphVersion")).isEqualTo(7L);
+        assertThat(found.getLong("source")).isEqualTo(1L);
+        assertThat(found.getLong("target")).isEqualTo(3L);
+        assertThat(found.getString("type")).isEqualTo("DISTANCE");
+        assertThat(found.getBoolean("found")).isTrue();
+        assertThat(found.getInt("distance")).isEqualTo(15);
+        assertThat(found.getInt("settledStations")).isEqualTo(3);
+        RecordedEvent notFound = events.get(1);
+        assertThat(notFound.getBoolean("found")).isFalse();
+        assertThat(notFound.getInt("settledStations")).isEqualTo(3);
+    }
+
+    @Test
+    void recordEverySearchType() throws IOException {
+        SubwayGraph graph = createGraph();
+        PathService pathService = createPathService(graph, "compact");
+
+        List<RecordedEvent> events = record(() -> {
+            pathService.findPath(1L, 3L, PathType.TRANSFER, 0);
+            pathService.findPath(1L, 3L, PathType.DISTANCE, 5);
+            pathService.findParetoPaths(1L, 3L);
+            pathService.findReachableStations(1L, 10, station -> {
+            });
+            pathService.findMeetingPoint(Arrays.asList(1L, 3L), MeetingObjective.MAX);
+        });
+
+        assertThat(events.stream().map(event -> event.getString("search")).collect(Collectors.toList()))
+                .containsExactly("FEWEST_TRANSFERS", "TRANSFER_PENALTY", "PARETO", "REACHABLE_STATIONS", "MEETING_POINT");
+        assertThat(events.get(1).getInt("distance")).isEqualTo(15);
+        assertThat(events.get(3).getInt("results")).isEqualTo(2);
+        assertThat(events.get(4).getLong("target")).isEqualTo(2L);
+    }
+
+    @Test
+    void recordEngineWithoutSettledCount() throws IOException {
+        SubwayGraph graph = createGraph();
+        PathService pathService = createPathService(graph, "jgrapht");
+
+        List<RecordedEvent> events = record(() -> pathService.findPath(1L, 3L));
+
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getString("engine")).isEqualTo("jgrapht");
+        assertThat(events.get(0).getInt("settledStations")).isEqualTo(-1);
+        assertThat(events.get(0).getBoolean("found")).isTrue();
+    }
+
+    @Test
+    void skipWarmUpSearches() throws IOException {
+        SubwayGraph graph = createGraph();
+        PathService pathService = createPathService(graph, "compact");
+
+        List<RecordedEvent> events = record(() -> {
+            pathService.warmUp(1L, 3L, PathType.DISTANCE);
+            pathService.warmUp(1L, 3L, PathType.TRANSFER);
+        });
+
+        assertThat(events).isEmpty();
+    }
+
+    @Test
+    void parseBundledConfiguration() throws IOException, ParseException {
+        Configuration configuration = Configuration.create(Paths.get("src/main/resources/jfr/subway.jfc"));
+
+        assertThat(configuration.getSettings()).containsEntry(PATH_SEARCH + "#enabled", "true");
+    }
+
+    private List<RecordedEvent> record(Runnable action) throws IOException {
+        Path file = Files.createTempFile("subway", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(PATH_SEARCH).withoutThreshold();
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file).stream()
+                    .filter(event -> event.getEventType().getName().equals(PATH_SEARCH))
+                    .sorted((a, b) -> a.getStartTime().compareTo(b.getStartTime()))
+                    .collect(Collectors.toList());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private SubwayGraph createGraph() {
+        SubwayFixtures fixtures = new SubwayFixtures();
+        Station 교대역 = fixtures.station(1L, "교대역");
+        Station 강남역 = fixtures.station(2L, "강남역");
+        Station 양재역 = fixtures.station(3L, "양재역");
+        fixtures.station(4L, "신논현역");
+        fixtures.section(fixtures.line(1L, "2호선"), 교대역, 강남역, 10, 3);
+        fixtures.section(fixtures.line(2L, "신분당선"), 강남역, 양재역, 5, 2);
+        return fixtures.graph(7L);
+    }
+
+    private PathService createPathService(SubwayGraph graph, String primary) {
+        SubwayGraphService subwayGraphService = mock(SubwayGraphService.class);
+        when(subwayGraphService.getGraph()).thenReturn(graph);
+        CompactPathEngine compact = new CompactPathEngine();
+        Map<String, PathEngine> engines = new HashMap<>();
+        engines.put("compact", compact);
+        engines.put("jgrapht", new JgraphtPathEngine());
+        PathEngines pathEngines = new PathEngines(engines, primary, "", 0.0, 1, new SimpleMeterRegistry());
+        return new PathService(subwayGraphService, pathEngines, compact);
+    }
+}
@@ -0,0 +1,106 @@
+package nextstep.subway.unit;
+
+import nextstep.subway.domain.Line;
+import nextstep.subway.domain.LineAwarePathFinder;
+import nextstep.subway.domain.Path;
+import nextstep.subway.domain.Station;
+import nextstep.subway.domain.SubwayGraph;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static nextstep.subway.unit.SubwayFixtures.stationIds;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LineAwarePathFinderTest {
+    private Station 강남역;
+    private Station 역삼역;
+    private Station 선릉역;
+    private Station 삼성역;
+    private SubwayGraph graph;
+
+    /**
+     * 강남역 --- *1호선(1)* --- 역삼역 --- *2호선(1)* --- 삼성역
+     * |                                            |
+     * *3호선(5)* ------------ 선릉역 ------------ *3호선(5)*
+     */
+    @BeforeEach
+    void setUp() {
+        SubwayFixtures fixtures = new SubwayFixtures();
+        강남역 = fixtures.station(1L, "강남역");
+        역삼역 = fixtures.station(2L, "역삼역");
+        선릉역 = fixtures.station(3L, "선릉역");
+        삼성역 = fixtures.station(4L, "삼성역");
+
+        Line 일호선 = fixtures.line(1L, "1호선");
+        Line 이호선 = fixtures.line(2L, "2호선");
+        Line 삼호선 = fixtures.line(3L, "3호선");
+        fixtures.section(일호선, 강남역, 역삼역, 1);
+        fixtures.section(이호선, 역삼역, 삼성역, 1);
+        fixtures.section(삼호선, 강남역, 선릉역, 5);
+        fixtures.section(삼호선, 선릉역, 삼성역, 5);
+
+        graph = fixtures.graph(1L);
+    }
+
+    @Test
+    void findFewestTransfersPath() {
+        Path path = new LineAwarePathFinder(graph).findFewestTransfersPath(강남역.getId(), 삼성역.getId());
+
+        assertThat(stationIds(graph, path)).containsExactly(강남역.getId(), 선릉역.getId(), 삼성역.getId());
+        assertThat(path.getDistance()).isEqualTo(10);
+        assertThat(graph.countTransfers(path.getSections())).isZero();
+    }
+
+    @Test
+    void findPathWithSmallTransferPenalty() {
+        Path path = new LineAwarePathFinder(graph).findPath(강남역.getId(), 삼성역.getId(), 5);
+
+        assertThat(stationIds(graph, path)).containsExactly(강남역.getId(), 역삼역.getId(), 삼성역.getId());
+        assertThat(path.getDistance()).isEqualTo(2);
+        assertThat(graph.countTransfers(path.getSections())).isEqualTo(1);
+    }
+
+    @Test
+    void findPathWithLargeTransferPenalty() {
+        Path path = new LineAwarePathFinder(graph).findPath(강남역.getId(), 삼성역.getId(), 9);
+
+        assertThat(stationIds(graph, path)).containsExactly(강남역.getId(), 선릉역.getId(), 삼성역.getId());
+    }
+
+    @Test
+    void findPathWithHugeTransferPenalty() {
+        Path path = new LineAwarePathFinder(graph).findPath(역삼역.getId(), 선릉역.getId(), Integer.MAX_VALUE);
+
+        assertThat(path.getDistance()).isEqualTo(6);
+        assertThat(graph.countTransfers(path.getSections())).isEqualTo(1);
+    }
+
+    /**
+     * 구간마다 노선이 다른 30 개 구간의 일직선 노선도. 환승 29 번에 거리 합 + 1 로 줄인 가중치를 더하면 비용이 int 를 넘는다.
+     */
+    @Test
+    void findPathWithManyTransfers() {
+        SubwayFixtures fixtures = new SubwayFixtures();
+        Station previous = fixtures.station(1L, "1역");
+        for (long id = 2; id <= 31; id++) {
+            Station station = fixtures.station(id, id + "역");
+            fixtures.section(fixtures.line(id, id + "호선"), previous, station, 5_000_000);
+            previous = station;
+        }
+        SubwayGraph chain = fixtures.graph(1L);
+
+        Path fewestTransfers = new LineAwarePathFinder(chain).findFewestTransfersPath(1L, 31L);
+        Path penalized = new LineAwarePathFinder(chain).findPath(31L, 1L, Integer.MAX_VALUE);
+
+        assertThat(fewestTransfers.getDistance()).isEqualTo(150_000_000);
+        assertThat(chain.countTransfers(fewestTransfers.getSections())).isEqualTo(29);
+        assertThat(penalized.getDistance()).isEqualTo(150_000_000);
+    }
+
+    @Test
+    void findPathWithNegativeTransferPenalty() {
+        assertThatThrownBy(() -> new LineAwarePathFinder(graph).findPath(강남역.getId(), 삼성역.getId(), -1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,49 @@
+package nextstep.subway.unit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import nextstep.subway.applicaion.dto.LineListResponse;
+import nextstep.subway.applicaion.dto.LineResponse;
+import nextstep.subway.applicaion.dto.StationListResponse;
+import nextstep.subway.applicaion.dto.StationResponse;
+import nextstep.subway.ui.ListResponseSerializers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ListResponseSerializersTest {
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper().registerModule(new SimpleModule()
+                .addSerializer(LineListResponse.class, new ListResponseSerializers.LineListSerializer())
+                .addSerializer(StationListResponse.class, new ListResponseSerializers.StationListSerializer()));
+    }
+
+    @Test
+    void serializeLines() throws Exception {
+        StationListResponse stations = new StationListResponse(new long[]{1L, 2L, 3L}, new String[]{"강남역", "역삼역", "선릉역"});
+        LineListResponse lines = new LineListResponse(new long[]{1L, 2L}, new String[]{"2호선", "신분당선"},
+                new String[]{"bg-green-600", "bg-red-600"}, new int[]{0, 900}, new int[]{0, 3, 3}, stations);
+
+        String json = objectMapper.writeValueAsString(lines);
+
+        assertThat(json).isEqualTo(objectMapper.writeValueAsString(Arrays.asList(
+                new LineResponse(1L, "2호선", "bg-green-600", 0, Arrays.asList(
+                        new StationResponse(1L, "강남역"), new StationResponse(2L, "역삼역"), new StationResponse(3L, "선릉역"))),
+                new LineResponse(2L, "신분당선", "bg-red-600", 900, Collections.emptyList()))));
+    }
+
+    @Test
+    void serializeStations() throws Exception {
+        String json = objectMapper.writeValueAsString(new StationListResponse(new long[]{1L, 2L}, new String[]{"강남역", "역삼역"}));
+
+        assertThat(json).isEqualTo(objectMapper.writeValueAsString(Arrays.asList(
+                new StationResponse(1L, "강남역"), new StationResponse(2L, "역삼역"))));
+    }
+}
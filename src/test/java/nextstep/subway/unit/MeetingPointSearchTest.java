@@ -0,0 +1,78 @@
+package nextstep.subway.unit;
+
+import nextstep.subway.domain.MeetingObjective;
+import nextstep.subway.domain.MeetingPointSearch;
+import nextstep.subway.domain.PathFinder;
+import nextstep.subway.domain.Station;
+import nextstep.subway.domain.SubwayGraph;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MeetingPointSearchTest {
+    private Station 교대역;
+    private Station 강남역;
+    private Station 양재역;
+    private Station 남부터미널역;
+    private Station 신논현역;
+    private SubwayGraph graph;
+
+    @BeforeEach
+    void setUp() {
+        SubwayFixtures fixtures = new SubwayFixtures().교대_강남_양재_남부터미널();
+        교대역 = fixtures.교대역;
+        강남역 = fixtures.강남역;
+        양재역 = fixtures.양재역;
+        남부터미널역 = fixtures.남부터미널역;
+        신논현역 = fixtures.station(5L, "신논현역");
+        graph = fixtures.graph(1L);
+    }
+
+    @Test
+    void findMinimumMaxDistanceStation() {
+        MeetingPointSearch search = search(MeetingObjective.MAX, 강남역, 남부터미널역, 양재역);
+
+        assertThat(graph.stationId(search.getStation())).isEqualTo(교대역.getId());
+        assertThat(search.getCost()).isEqualTo(10);
+        assertThat(Arrays.asList(search.distanceFrom(0), search.distanceFrom(1), search.distanceFrom(2)))
+                .containsExactly(10, 2, 5);
+    }
+
+    @Test
+    void findMinimumTotalDistanceStation() {
+        MeetingPointSearch search = search(MeetingObjective.TOTAL, 강남역, 남부터미널역, 양재역);
+
+        assertThat(graph.stationId(search.getStation())).isEqualTo(양재역.getId());
+        assertThat(search.getCost()).isEqualTo(13);
+    }
+
+    @Test
+    void findWithUnconnectedOrigin() {
+        MeetingPointSearch search = search(MeetingObjective.MAX, 강남역, 신논현역);
+
+        assertThat(search.isFound()).isFalse();
+    }
+
+    @Test
+    void createWithSingleOrigin() {
+        assertThatThrownBy(() -> new MeetingPointSearch(graph, Collections.singletonList(강남역.getId()), MeetingObjective.MAX))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private MeetingPointSearch search(MeetingObjective objective, Station... origins) {
+        List<Long> originIds = Arrays.asList(Arrays.stream(origins).map(Station::getId).toArray(Long[]::new));
+        MeetingPointSearch search = new MeetingPointSearch(graph, originIds, objective);
+        PathFinder pathFinder = new PathFinder(graph);
+        for (int origin = 0; origin < search.originCount(); origin++) {
+            int current = origin;
+            pathFinder.visitStations(search.originId(origin), (station, distance) -> search.visit(current, station, distance));
+        }
+        return search;
+    }
+}
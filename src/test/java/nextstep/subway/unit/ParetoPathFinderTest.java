@@ -0,0 +1,84 @@
+package nextstep.subway.unit;
+
+import nextstep.subway.domain.Line;
+import nextstep.subway.domain.ParetoPathFinder;
+import nextstep.subway.domain.Path;
+import nextstep.subway.domain.PathFinder;
+import nextstep.subway.domain.PathType;
+import nextstep.subway.domain.Station;
+import nextstep.subway.domain.SubwayGraph;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static nextstep.subway.unit.SubwayFixtures.stationIds;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ParetoPathFinderTest {
+    private Station 강남역;
+    private Station 역삼역;
+    private Station 선릉역;
+    private Station 삼성역;
+    private Station 봉은사역;
+    private Station 종합운동장역;
+    private SubwayGraph graph;
+
+    /**
+     * 강남역에서 종합운동장역까지 (거리, 시간) 이 각각
+     * 역삼역 경유 (2, 20), 선릉역 경유 (10, 4), 삼성역 경유 (6, 16), 봉은사역 경유 (12, 60) 인 노선도
+     */
+    @BeforeEach
+    void setUp() {
+        SubwayFixtures fixtures = new SubwayFixtures();
+        강남역 = fixtures.station(1L, "강남역");
+        역삼역 = fixtures.station(2L, "역삼역");
+        선릉역 = fixtures.station(3L, "선릉역");
+        삼성역 = fixtures.station(4L, "삼성역");
+        봉은사역 = fixtures.station(5L, "봉은사역");
+        종합운동장역 = fixtures.station(6L, "종합운동장역");
+
+        Line 이호선 = fixtures.line(1L, "2호선");
+        fixtures.section(이호선, 강남역, 역삼역, 1, 10);
+        fixtures.section(이호선, 역삼역, 종합운동장역, 1, 10);
+        fixtures.section(이호선, 강남역, 선릉역, 5, 2);
+        fixtures.section(이호선, 선릉역, 종합운동장역, 5, 2);
+        fixtures.section(이호선, 강남역, 삼성역, 3, 8);
+        fixtures.section(이호선, 삼성역, 종합운동장역, 3, 8);
+        fixtures.section(이호선, 강남역, 봉은사역, 6, 30);
+        fixtures.section(이호선, 봉은사역, 종합운동장역, 6, 30);
+
+        graph = fixtures.graph(1L);
+    }
+
+    @Test
+    void findParetoPaths() {
+        List<Path> paths = new ParetoPathFinder(graph).findParetoPaths(강남역.getId(), 종합운동장역.getId());
+
+        assertThat(paths).hasSize(3);
+        assertThat(stationIds(graph, paths.get(0))).containsExactly(강남역.getId(), 역삼역.getId(), 종합운동장역.getId());
+        assertThat(stationIds(graph, paths.get(1))).containsExactly(강남역.getId(), 삼성역.getId(), 종합운동장역.getId());
+        assertThat(stationIds(graph, paths.get(2))).containsExactly(강남역.getId(), 선릉역.getId(), 종합운동장역.getId());
+        assertThat(paths.stream().map(Path::getDistance)).containsExactly(2, 6, 10);
+        assertThat(paths.stream().map(Path::getDuration)).containsExactly(20, 16, 4);
+    }
+
+    @Test
+    void findParetoPathsRepeatedly() {
+        ParetoPathFinder finder = new ParetoPathFinder(graph);
+        finder.findParetoPaths(강남역.getId(), 종합운동장역.getId());
+
+        List<Path> paths = finder.findParetoPaths(종합운동장역.getId(), 강남역.getId());
+
+        assertThat(paths.stream().map(Path::getDistance)).containsExactly(2, 6, 10);
+    }
+
+    @Test
+    void findMinimumDurationPath() {
+        Path path = new PathFinder(graph).findShortestPath(강남역.getId(), 종합운동장역.getId(), PathType.DURATION);
+
+        assertThat(stationIds(graph, path)).containsExactly(강남역.getId(), 선릉역.getId(), 종합운동장역.getId());
+        assertThat(path.getDistance()).isEqualTo(10);
+        assertThat(path.getDuration()).isEqualTo(4);
+    }
+}
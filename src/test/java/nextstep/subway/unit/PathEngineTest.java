@@ -0,0 +1,143 @@
+package nextstep.subway.unit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import nextstep.subway.applicaion.CompactPathEngine;
+import nextstep.subway.applicaion.JgraphtPathEngine;
+import nextstep.subway.applicaion.PathEngineShadow;
+import nextstep.subway.applicaion.PathEngines;
+import nextstep.subway.domain.Path;
+import nextstep.subway.domain.PathEngine;
+import nextstep.subway.domain.PathType;
+import nextstep.subway.domain.Station;
+import nextstep.subway.domain.SubwayGraph;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PathEngineTest {
+    private Station 교대역;
+    private Station 강남역;
+    private Station 양재역;
+    private Station 남부터미널역;
+    private Station 신논현역;
+    private SubwayGraph graph;
+
+    @BeforeEach
+    void setUp() {
+        SubwayFixtures fixtures = new SubwayFixtures().교대_강남_양재_남부터미널();
+        교대역 = fixtures.교대역;
+        강남역 = fixtures.강남역;
+        양재역 = fixtures.양재역;
+        남부터미널역 = fixtures.남부터미널역;
+        신논현역 = fixtures.station(5L, "신논현역");
+        graph = fixtures.graph(1L);
+    }
+
+    @Test
+    void findSamePathWithEachEngine() {
+        PathEngine compact = new CompactPathEngine();
+        PathEngine jgrapht = new JgraphtPathEngine();
+
+        for (PathType type : Arrays.asList(PathType.DISTANCE, PathType.DURATION)) {
+            Path expected = compact.findShortestPath(graph, 교대역.getId(), 양재역.getId(), type);
+            Path actual = jgrapht.findShortestPath(graph, 교대역.getId(), 양재역.getId(), type);
+
+            assertThat(actual.getStations()).containsExactly(expected.getStations());
+            assertThat(actual.getDistance()).isEqualTo(expected.getDistance());
+            assertThat(actual.getDuration()).isEqualTo(expected.getDuration());
+        }
+    }
+
+    @Test
+    void findPathWithJgraphtEngineFails() {
+        PathEngine jgrapht = new JgraphtPathEngine();
+
+        assertThatThrownBy(() -> jgrapht.findShortestPath(graph, 교대역.getId(), 교대역.getId(), PathType.DISTANCE))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> jgrapht.findShortestPath(graph, 교대역.getId(), 신논현역.getId(), PathType.DISTANCE))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> jgrapht.findShortestPath(graph, 교대역.getId(), 100L, PathType.DISTANCE))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void compareWithShadowEngine() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        PathEngine compact = new CompactPathEngine();
+        PathEngineShadow shadow = new PathEngineShadow(new JgraphtPathEngine(), "compact", "jgrapht", 1.0,
+                Runnable::run, registry);
+
+        Path primary = compact.findShortestPath(graph, 교대역.getId(), 양재역.getId(), PathType.DISTANCE);
+        shadow.compare(graph, 교대역.getId(), 양재역.getId(), PathType.DISTANCE, primary, 1_000L);
+
+        assertThat(comparisons(registry, "match")).isEqualTo(1.0);
+        assertThat(comparisons(registry, "mismatch")).isEqualTo(0.0);
+        assertThat(registry.get("subway.path.shadow.latency").tag("role", "shadow").timer().count()).isEqualTo(1L);
+    }
+
+    @Test
+    void reportMismatchWithShadowEngine() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        PathEngine compact = new CompactPathEngine();
+        PathEngine detour = (graph, source, target, type) -> compact.findShortestPath(graph, source, 강남역.getId(), type);
+        PathEngineShadow shadow = new PathEngineShadow(detour, "compact", "detour", 1.0, Runnable::run, registry);
+
+        Path primary = compact.findShortestPath(graph, 교대역.getId(), 양재역.getId(), PathType.DISTANCE);
+        shadow.compare(graph, 교대역.getId(), 양재역.getId(), PathType.DISTANCE, primary, 1_000L);
+
+        assertThat(comparisons(registry, "mismatch")).isEqualTo(1.0);
+    }
+
+    @Test
+    void skipUnsampledComparison() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        PathEngine compact = new CompactPathEngine();
+        PathEngineShadow shadow = new PathEngineShadow(new JgraphtPathEngine(), "compact", "jgrapht", 0.0,
+                Runnable::run, registry);
+
+        Path primary = compact.findShortestPath(graph, 교대역.getId(), 양재역.getId(), PathType.DISTANCE);
+        shadow.compare(graph, 교대역.getId(), 양재역.getId(), PathType.DISTANCE, primary, 1_000L);
+
+        assertThat(comparisons(registry, "match")).isEqualTo(0.0);
+    }
+
+    @Test
+    void skipSearchesOutOfSample() throws InterruptedException {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        Map<String, PathEngine> engines = new HashMap<>();
+        engines.put("compact", new CompactPathEngine());
+        engines.put("jgrapht", new JgraphtPathEngine());
+        PathEngines pathEngines = new PathEngines(engines, "compact", "jgrapht", 1.0, 64, registry);
+
+        try {
+            pathEngines.findShortestPath(graph, 교대역.getId(), 양재역.getId(), PathType.DISTANCE, false);
+            pathEngines.findShortestPath(graph, 교대역.getId(), 양재역.getId(), PathType.DISTANCE, true);
+            awaitComparisons(registry, 1);
+            // 비교 스레드는 하나라 표본에서 뺀 검색이 들어갔다면 먼저 처리되고, 잠시 뒤 두 번째 비교가 보인다.
+            Thread.sleep(100);
+        } finally {
+            pathEngines.destroy();
+        }
+
+        assertThat(comparisons(registry, "match")).isEqualTo(1.0);
+    }
+
+    private void awaitComparisons(MeterRegistry registry, int count) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (comparisons(registry, "match") + comparisons(registry, "mismatch") < count && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private double comparisons(MeterRegistry registry, String result) {
+        return registry.get("subway.path.shadow.comparisons").tag("result", result).counter().count();
+    }
+}
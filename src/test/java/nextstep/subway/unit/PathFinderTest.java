@@ -0,0 +1,89 @@
+package nextstep.subway.unit;
+
+import nextstep.subway.domain.Path;
+import nextstep.subway.domain.PathFinder;
+import nextstep.subway.domain.Station;
+import nextstep.subway.domain.SubwayGraph;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static nextstep.subway.unit.SubwayFixtures.stationIds;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PathFinderTest {
+    private Station 교대역;
+    private Station 강남역;
+    private Station 양재역;
+    private Station 남부터미널역;
+    private Station 신논현역;
+    private SubwayGraph graph;
+
+    @BeforeEach
+    void setUp() {
+        SubwayFixtures fixtures = new SubwayFixtures().교대_강남_양재_남부터미널();
+        교대역 = fixtures.교대역;
+        강남역 = fixtures.강남역;
+        양재역 = fixtures.양재역;
+        남부터미널역 = fixtures.남부터미널역;
+        신논현역 = fixtures.station(5L, "신논현역");
+        graph = fixtures.graph(1L);
+    }
+
+    @Test
+    void findShortestPath() {
+        Path path = new PathFinder(graph).findShortestPath(교대역.getId(), 양재역.getId());
+
+        assertThat(stationIds(graph, path)).containsExactly(교대역.getId(), 남부터미널역.getId(), 양재역.getId());
+        assertThat(path.getDistance()).isEqualTo(5);
+    }
+
+    @Test
+    void findShortestPathAgainstDirection() {
+        Path path = new PathFinder(graph).findShortestPath(강남역.getId(), 남부터미널역.getId());
+
+        assertThat(stationIds(graph, path)).containsExactly(강남역.getId(), 교대역.getId(), 남부터미널역.getId());
+        assertThat(path.getDistance()).isEqualTo(12);
+    }
+
+    @Test
+    void findShortestPathWithSameStations() {
+        assertThatThrownBy(() -> new PathFinder(graph).findShortestPath(교대역.getId(), 교대역.getId()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void findShortestPathToUnconnectedStation() {
+        assertThatThrownBy(() -> new PathFinder(graph).findShortestPath(교대역.getId(), 신논현역.getId()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void findShortestPathToUnknownStation() {
+        assertThatThrownBy(() -> new PathFinder(graph).findShortestPath(교대역.getId(), 100L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void findReachableStations() {
+        List<Long> stationIds = new ArrayList<>();
+        List<Integer> distances = new ArrayList<>();
+
+        new PathFinder(graph).findReachableStations(교대역.getId(), 5, (station, distance) -> {
+            stationIds.add(graph.stationId(station));
+            distances.add(distance);
+        });
+
+        assertThat(stationIds).containsExactly(교대역.getId(), 남부터미널역.getId(), 양재역.getId());
+        assertThat(distances).containsExactly(0, 2, 5);
+    }
+
+    @Test
+    void findReachableStationsWithNegativeDistance() {
+        assertThatThrownBy(() -> new PathFinder(graph).findReachableStations(교대역.getId(), -1, (station, distance) -> {
+        })).isInstanceOf(IllegalArgumentException.class);
+    }
+}
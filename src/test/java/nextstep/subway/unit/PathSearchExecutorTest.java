@@ -0,0 +1,172 @@
+package nextstep.subway.unit;
+
+import nextstep.subway.applicaion.AdaptiveConcurrencyLimiter;
+import nextstep.subway.applicaion.PathSearchExecutor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PathSearchExecutorTest {
+    private final CountDownLatch release = new CountDownLatch(1);
+    private PathSearchExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.destroy();
+    }
+
+    @Test
+    void submit() {
+        executor = new PathSearchExecutor(1, 1, 1_000, createLimiter(100));
+
+        assertThat(executor.submit(() -> "경로").join()).isEqualTo("경로");
+    }
+
+    @Test
+    void rejectWhenQueueIsFull() {
+        executor = new PathSearchExecutor(1, 1, 1_000, createLimiter(100));
+        executor.submit(this::awaitRelease);
+        executor.submit(this::awaitRelease);
+
+        assertThatThrownBy(() -> executor.submit(this::awaitRelease))
+                .isInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    void rejectWhenLimitIsReached() {
+        AdaptiveConcurrencyLimiter limiter = createLimiter(1);
+        executor = new PathSearchExecutor(1, 10, 1_000, limiter);
+        executor.submit(this::awaitRelease);
+
+        assertThatThrownBy(() -> executor.submit(this::awaitRelease))
+                .isInstanceOf(RejectedExecutionException.class);
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+    }
+
+    @Test
+    void timeout() {
+        AdaptiveConcurrencyLimiter limiter = createLimiter(100);
+        executor = new PathSearchExecutor(1, 1, 10, limiter);
+
+        CompletableFuture<String> future = executor.submit(this::awaitRelease);
+
+        assertThatThrownBy(future::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(TimeoutException.class);
+        awaitIdle(limiter);
+        assertThat(limiter.getInFlight()).isZero();
+        assertThat(executor.getActiveCount()).isZero();
+    }
+
+    @Test
+    void keepPermitUntilTimedOutTaskFinishes() throws InterruptedException {
+        AdaptiveConcurrencyLimiter limiter = createLimiter(100);
+        executor = new PathSearchExecutor(1, 1, 10, limiter);
+        CountDownLatch finished = new CountDownLatch(1);
+
+        CompletableFuture<String> future = executor.submit(() -> {
+            String result = awaitReleaseUninterruptibly();
+            finished.countDown();
+            return result;
+        });
+
+        assertThatThrownBy(future::join).hasCauseInstanceOf(TimeoutException.class);
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+        assertThat(executor.getActiveCount()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(finished.await(5, TimeUnit.SECONDS)).isTrue();
+        awaitIdle(limiter);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void removeQueuedTaskWhenTimedOut() {
+        AdaptiveConcurrencyLimiter limiter = createLimiter(100);
+        executor = new PathSearchExecutor(1, 1, 10, limiter);
+        executor.submit(this::awaitReleaseUninterruptibly);
+
+        CompletableFuture<String> queued = executor.submit(() -> "경로");
+
+        assertThatThrownBy(queued::join).hasCauseInstanceOf(TimeoutException.class);
+        assertThat(executor.getQueueSize()).isZero();
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+    }
+
+    @Test
+    void runOnEachThread() {
+        AdaptiveConcurrencyLimiter limiter = createLimiter(100);
+        executor = new PathSearchExecutor(3, 1, 1_000, limiter);
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        AtomicInteger runs = new AtomicInteger();
+
+        executor.runOnEachThread(() -> {
+            threads.add(Thread.currentThread());
+            runs.incrementAndGet();
+        });
+
+        assertThat(runs.get()).isEqualTo(3);
+        assertThat(threads).hasSize(3);
+        assertThat(limiter.getInFlight()).isZero();
+        assertThat(executor.submit(() -> "경로").join()).isEqualTo("경로");
+    }
+
+    @Test
+    void failRunOnEachThread() {
+        executor = new PathSearchExecutor(2, 1, 1_000, createLimiter(100));
+
+        assertThatThrownBy(() -> executor.runOnEachThread(() -> {
+            throw new IllegalArgumentException("연결되지 않은 역");
+        })).isInstanceOf(IllegalStateException.class)
+                .hasCauseInstanceOf(IllegalArgumentException.class);
+    }
+
+    private AdaptiveConcurrencyLimiter createLimiter(int limit) {
+        return new AdaptiveConcurrencyLimiter(limit, 1, limit, 1_000, 0.9);
+    }
+
+    private String awaitReleaseUninterruptibly() {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                release.await();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        return "경로";
+    }
+
+    private void awaitIdle(AdaptiveConcurrencyLimiter limiter) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while ((limiter.getInFlight() > 0 || executor.getActiveCount() > 0) && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private String awaitRelease() {
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "경로";
+    }
+}
@@ -0,0 +1,76 @@
+package nextstep.subway.unit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import nextstep.subway.applicaion.CompactPathEngine;
+import nextstep.subway.applicaion.PathEngines;
+import nextstep.subway.applicaion.PathService;
+import nextstep.subway.applicaion.SubwayGraphService;
+import nextstep.subway.applicaion.dto.MeetingPointResponse;
+import nextstep.subway.domain.MeetingObjective;
+import nextstep.subway.domain.PathEngine;
+import nextstep.subway.domain.Station;
+import nextstep.subway.domain.SubwayGraph;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PathServiceTest {
+    private Station 교대역;
+    private Station 강남역;
+    private Station 양재역;
+    private Station 남부터미널역;
+    private PathService pathService;
+
+    @BeforeEach
+    void setUp() {
+        SubwayFixtures fixtures = new SubwayFixtures().교대_강남_양재_남부터미널();
+        교대역 = fixtures.교대역;
+        강남역 = fixtures.강남역;
+        양재역 = fixtures.양재역;
+        남부터미널역 = fixtures.남부터미널역;
+        SubwayGraph graph = fixtures.graph(1L);
+
+        SubwayGraphService subwayGraphService = mock(SubwayGraphService.class);
+        when(subwayGraphService.getGraph()).thenReturn(graph);
+        CompactPathEngine compact = new CompactPathEngine();
+        Map<String, PathEngine> engines = Collections.singletonMap("compact", compact);
+        PathEngines pathEngines = new PathEngines(engines, "compact", "", 0.0, 1, new SimpleMeterRegistry());
+        pathService = new PathService(subwayGraphService, pathEngines, compact);
+    }
+
+    @AfterEach
+    void tearDown() {
+        Thread.interrupted();
+    }
+
+    @Test
+    void findMeetingPoint() {
+        MeetingPointResponse response = pathService.findMeetingPoint(origins(), MeetingObjective.MAX);
+
+        assertThat(response.getStation().getId()).isEqualTo(교대역.getId());
+        assertThat(response.getCost()).isEqualTo(10);
+    }
+
+    @Test
+    void cancelMeetingPointWhenInterrupted() {
+        Thread.currentThread().interrupt();
+
+        assertThatThrownBy(() -> pathService.findMeetingPoint(origins(), MeetingObjective.MAX))
+                .isInstanceOf(CancellationException.class);
+    }
+
+    private List<Long> origins() {
+        return Arrays.asList(강남역.getId(), 남부터미널역.getId(), 양재역.getId());
+    }
+}
@@ -0,0 +1,103 @@
+package nextstep.subway.unit;
+
+import nextstep.subway.config.ReplicaRoutingDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicaRoutingDataSourceTest {
+    private static final String COUNT_SQL = "select count(*) from network_change";
+
+    private DataSource primary = new DriverManagerDataSource("jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1", "sa", "");
+    private DataSource replica = new DriverManagerDataSource("jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1", "sa", "");
+
+    private ReplicaRoutingDataSource routingDataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        for (DataSource dataSource : Arrays.asList(primary, replica)) {
+            new JdbcTemplate(dataSource).execute("create table network_change (sequence_number bigint not null)");
+        }
+
+        routingDataSource = new ReplicaRoutingDataSource(primary, Collections.singletonList(replica), 1);
+        routingDataSource.afterPropertiesSet();
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (DataSource dataSource : Arrays.asList(primary, replica)) {
+            new JdbcTemplate(dataSource).execute("drop table network_change");
+        }
+    }
+
+    @Test
+    void routeReadOnlyTransactionToReplica() {
+        insertChanges(primary, 1, 3);
+        insertChanges(replica, 1, 2);
+
+        routingDataSource.checkLag();
+
+        assertThat(readOnlyTransaction.execute(status -> count())).isEqualTo(2);
+        assertThat(writeTransaction.execute(status -> count())).isEqualTo(3);
+        assertThat(count()).isEqualTo(3);
+    }
+
+    @Test
+    void routeReadOnlyTransactionToPrimaryBeforeLagCheck() {
+        insertChanges(primary, 1, 3);
+        insertChanges(replica, 1, 3);
+
+        assertThat(routingDataSource.isAvailable(0)).isFalse();
+        assertThat(readOnlyTransaction.execute(status -> count())).isEqualTo(3);
+    }
+
+    @Test
+    void fallBackToPrimaryWhenReplicaLags() {
+        insertChanges(primary, 1, 2);
+        insertChanges(replica, 1, 2);
+        routingDataSource.checkLag();
+
+        insertChanges(primary, 3, 5);
+        routingDataSource.checkLag();
+
+        assertThat(routingDataSource.isAvailable(0)).isFalse();
+        assertThat(readOnlyTransaction.execute(status -> count())).isEqualTo(5);
+
+        insertChanges(replica, 3, 4);
+        routingDataSource.checkLag();
+
+        assertThat(readOnlyTransaction.execute(status -> count())).isEqualTo(4);
+    }
+
+    private int count() {
+        return jdbcTemplate.queryForObject(COUNT_SQL, Integer.class);
+    }
+
+    private void insertChanges(DataSource dataSource, int from, int to) {
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        for (int sequenceNumber = from; sequenceNumber <= to; sequenceNumber++) {
+            template.update("insert into network_change (sequence_number) values (?)", sequenceNumber);
+        }
+    }
+}
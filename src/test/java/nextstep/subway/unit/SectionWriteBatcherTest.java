@@ -0,0 +1,229 @@
+package nextstep.subway.unit;
+
+import nextstep.subway.applicaion.LineService;
+import nextstep.subway.applicaion.SectionWriteBatcher;
+import nextstep.subway.applicaion.dto.SectionRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SectionWriteBatcherTest {
+    private static final Long LINE_ID = 1L;
+
+    private final LineService lineService = mock(LineService.class);
+    private final SectionWriteBatcher batcher = new SectionWriteBatcher(lineService, 100);
+
+    private final CountDownLatch firstBatchStarted = new CountDownLatch(1);
+    private final CountDownLatch firstBatchReleased = new CountDownLatch(1);
+    private final List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+    private final Map<SectionRequest, Throwable> failures = new ConcurrentHashMap<>();
+
+    @Test
+    void addSection() {
+        SectionRequest request = createRequest(1L, 2L);
+        when(lineService.addSections(eq(LINE_ID), anyList())).thenReturn(Collections.singletonList(null));
+
+        batcher.addSection(LINE_ID, request);
+
+        verify(lineService).addSections(LINE_ID, Collections.singletonList(request));
+        verify(lineService, never()).addSection(eq(LINE_ID), any());
+        assertThat(queues()).isEmpty();
+    }
+
+    @Test
+    void rejectOnlyTheFailedRequest() {
+        SectionRequest request = createRequest(1L, 2L);
+        when(lineService.addSections(eq(LINE_ID), anyList()))
+                .thenReturn(Collections.singletonList(new IllegalArgumentException("이미 등록된 구간입니다.")));
+
+        assertThatThrownBy(() -> batcher.addSection(LINE_ID, request))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("이미 등록된 구간입니다.");
+    }
+
+    @Test
+    void groupConcurrentRequests() throws InterruptedException {
+        when(lineService.addSections(eq(LINE_ID), anyList())).thenAnswer(invocation -> {
+            List<SectionRequest> requests = invocation.getArgument(1);
+            holdFirstBatch(requests);
+            return Collections.nCopies(requests.size(), null);
+        });
+
+        Thread leader = startWriter(createRequest(1L, 2L));
+        assertThat(firstBatchStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        List<Thread> followers = new ArrayList<>();
+        for (long station = 2; station <= 4; station++) {
+            followers.add(startWriter(createRequest(station, station + 1)));
+        }
+        awaitWaiting(followers);
+        firstBatchReleased.countDown();
+
+        join(leader, followers);
+        assertThat(batchSizes).containsExactly(1, 3);
+        assertThat(failures).isEmpty();
+        assertThat(queues()).isEmpty();
+    }
+
+    @Test
+    void writeOnlyOwnBatchAndHandOver() throws InterruptedException {
+        SectionWriteBatcher singleBatcher = new SectionWriteBatcher(lineService, 1);
+        Map<SectionRequest, Thread> writers = new ConcurrentHashMap<>();
+        when(lineService.addSections(eq(LINE_ID), anyList())).thenAnswer(invocation -> {
+            List<SectionRequest> requests = invocation.getArgument(1);
+            writers.put(requests.get(0), Thread.currentThread());
+            holdFirstBatch(requests);
+            return Collections.singletonList(null);
+        });
+
+        Map<SectionRequest, Thread> requesters = new ConcurrentHashMap<>();
+        SectionRequest first = createRequest(1L, 2L);
+        Thread leader = startWriter(singleBatcher, first);
+        requesters.put(first, leader);
+        assertThat(firstBatchStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        List<Thread> followers = new ArrayList<>();
+        for (long station = 2; station <= 4; station++) {
+            SectionRequest request = createRequest(station, station + 1);
+            Thread follower = startWriter(singleBatcher, request);
+            requesters.put(request, follower);
+            followers.add(follower);
+        }
+        awaitWaiting(followers);
+        firstBatchReleased.countDown();
+
+        join(leader, followers);
+        assertThat(batchSizes).containsExactly(1, 1, 1, 1);
+        assertThat(writers).isEqualTo(requesters);
+        assertThat(failures).isEmpty();
+    }
+
+    @Test
+    void writeEachRequestWhenBatchFails() throws InterruptedException {
+        SectionRequest duplicated = createRequest(3L, 4L);
+        when(lineService.addSections(eq(LINE_ID), anyList())).thenAnswer(invocation -> {
+            List<SectionRequest> requests = invocation.getArgument(1);
+            holdFirstBatch(requests);
+            if (requests.size() > 1) {
+                throw new DataIntegrityViolationException("uk_section_line_stations");
+            }
+            return Collections.singletonList(null);
+        });
+        doThrow(new DataIntegrityViolationException("uk_section_line_stations"))
+                .when(lineService).addSection(LINE_ID, duplicated);
+
+        Thread leader = startWriter(createRequest(1L, 2L));
+        assertThat(firstBatchStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        SectionRequest valid = createRequest(2L, 3L);
+        List<Thread> followers = new ArrayList<>();
+        followers.add(startWriter(valid));
+        followers.add(startWriter(duplicated));
+        awaitWaiting(followers);
+        firstBatchReleased.countDown();
+
+        join(leader, followers);
+        verify(lineService, times(1)).addSection(LINE_ID, valid);
+        assertThat(failures).containsOnlyKeys(duplicated);
+        assertThat(failures.get(duplicated)).isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    void releaseEveryRequestWhenBatchThrowsError() throws InterruptedException {
+        when(lineService.addSections(eq(LINE_ID), anyList())).thenAnswer(invocation -> {
+            List<SectionRequest> requests = invocation.getArgument(1);
+            holdFirstBatch(requests);
+            if (requests.size() > 1) {
+                throw new StackOverflowError();
+            }
+            return Collections.singletonList(null);
+        });
+
+        Thread leader = startWriter(createRequest(1L, 2L));
+        assertThat(firstBatchStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        List<SectionRequest> requests = new ArrayList<>();
+        List<Thread> followers = new ArrayList<>();
+        for (long station = 2; station <= 4; station++) {
+            SectionRequest request = createRequest(station, station + 1);
+            requests.add(request);
+            followers.add(startWriter(request));
+        }
+        awaitWaiting(followers);
+        firstBatchReleased.countDown();
+
+        join(leader, followers);
+        assertThat(followers.stream().filter(Thread::isAlive).count()).isZero();
+        assertThat(failures).containsOnlyKeys(requests.get(0), requests.get(1), requests.get(2));
+        assertThat(failures.get(requests.get(0))).isInstanceOf(StackOverflowError.class);
+        verify(lineService, never()).addSection(eq(LINE_ID), any());
+        assertThat(queues()).isEmpty();
+    }
+
+    private void holdFirstBatch(List<SectionRequest> requests) throws InterruptedException {
+        batchSizes.add(requests.size());
+        if (firstBatchStarted.getCount() > 0) {
+            firstBatchStarted.countDown();
+            firstBatchReleased.await(5, TimeUnit.SECONDS);
+        }
+    }
+
+    private Thread startWriter(SectionRequest request) {
+        return startWriter(batcher, request);
+    }
+
+    private Thread startWriter(SectionWriteBatcher writer, SectionRequest request) {
+        Thread thread = new Thread(() -> {
+            try {
+                writer.addSection(LINE_ID, request);
+            } catch (RuntimeException | Error e) {
+                failures.put(request, e);
+            }
+        });
+        thread.start();
+        return thread;
+    }
+
+    private void awaitWaiting(List<Thread> threads) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (threads.stream().anyMatch(thread -> thread.getState() != Thread.State.WAITING)) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(1);
+        }
+    }
+
+    private void join(Thread leader, List<Thread> followers) throws InterruptedException {
+        leader.join(5_000);
+        for (Thread follower : followers) {
+            follower.join(5_000);
+        }
+    }
+
+    private Map<?, ?> queues() {
+        return (Map<?, ?>) ReflectionTestUtils.getField(batcher, "queues");
+    }
+
+    private SectionRequest createRequest(Long upStationId, Long downStationId) {
+        SectionRequest request = new SectionRequest();
+        ReflectionTestUtils.setField(request, "upStationId", upStationId);
+        ReflectionTestUtils.setField(request, "downStationId", downStationId);
+        ReflectionTestUtils.setField(request, "distance", 10);
+        return request;
+    }
+}
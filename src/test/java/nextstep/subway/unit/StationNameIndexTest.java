@@ -0,0 +1,70 @@
+package nextstep.subway.unit;
+
+import nextstep.subway.domain.StationNameIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static nextstep.subway.unit.SubwayFixtures.createStation;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StationNameIndexTest {
+    private StationNameIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = StationNameIndex.of(Arrays.asList(
+                createStation(1L, "역삼역"),
+                createStation(2L, "강남역"),
+                createStation(3L, "강변역"),
+                createStation(4L, "교대역")));
+    }
+
+    @Test
+    void search() {
+        assertThat(names(index, "강", 10)).containsExactly("강남역", "강변역");
+    }
+
+    @Test
+    void searchWithLimit() {
+        assertThat(names(index, "강", 1)).containsExactly("강남역");
+    }
+
+    @Test
+    void searchWithoutMatch() {
+        assertThat(names(index, "신", 10)).isEmpty();
+    }
+
+    @Test
+    void add() {
+        StationNameIndex added = index.add(5L, "강동역");
+
+        assertThat(names(added, "강", 10)).containsExactly("강남역", "강동역", "강변역");
+        assertThat(names(index, "강", 10)).containsExactly("강남역", "강변역");
+    }
+
+    @Test
+    void addExistingStation() {
+        StationNameIndex added = index.add(2L, "신논현역");
+
+        assertThat(names(added, "강", 10)).containsExactly("강변역");
+        assertThat(names(added, "신", 10)).containsExactly("신논현역");
+    }
+
+    @Test
+    void remove() {
+        StationNameIndex removed = index.remove(2L);
+
+        assertThat(names(removed, "강", 10)).containsExactly("강변역");
+        assertThat(removed.size()).isEqualTo(3);
+    }
+
+    private List<String> names(StationNameIndex index, String prefix, int limit) {
+        return Arrays.stream(index.search(prefix, limit))
+                .mapToObj(index::stationName)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,95 @@
+package nextstep.subway.unit;
+
+import nextstep.subway.domain.Line;
+import nextstep.subway.domain.Path;
+import nextstep.subway.domain.Section;
+import nextstep.subway.domain.Station;
+import nextstep.subway.domain.SubwayGraph;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 단위 테스트가 식별자를 채운 역, 노선, 구간을 만들어 노선도를 꾸리는 픽스처.
+ * 만든 순서대로 역과 노선을 모아 두었다가 graph 로 SubwayGraph 를 만들고, 구간 식별자는 1 부터 차례로 매긴다.
+ * 테스트마다 새로 만들어 필요한 노선도만 꾸린다.
+ */
+class SubwayFixtures {
+    Station 교대역;
+    Station 강남역;
+    Station 양재역;
+    Station 남부터미널역;
+    Line 이호선;
+    Line 신분당선;
+    Line 삼호선;
+
+    private final List<Station> stations = new ArrayList<>();
+    private final List<Line> lines = new ArrayList<>();
+    private long sectionId;
+
+    /**
+     * 교대역 --- *2호선* (10, 3) --- 강남역
+     * |                                |
+     * *3호선* (2, 10)            *신분당선* (10, 3)
+     * |                                |
+     * 남부터미널역 --- *3호선* (3, 10) --- 양재역
+     */
+    SubwayFixtures 교대_강남_양재_남부터미널() {
+        교대역 = station(1L, "교대역");
+        강남역 = station(2L, "강남역");
+        양재역 = station(3L, "양재역");
+        남부터미널역 = station(4L, "남부터미널역");
+
+        이호선 = line(1L, "2호선");
+        신분당선 = line(2L, "신분당선");
+        삼호선 = line(3L, "3호선");
+        section(이호선, 교대역, 강남역, 10, 3);
+        section(신분당선, 강남역, 양재역, 10, 3);
+        section(삼호선, 교대역, 남부터미널역, 2, 10);
+        section(삼호선, 남부터미널역, 양재역, 3, 10);
+        return this;
+    }
+
+    Station station(Long id, String name) {
+        Station station = createStation(id, name);
+        stations.add(station);
+        return station;
+    }
+
+    Line line(Long id, String name) {
+        Line line = new Line(name, "bg-red-600");
+        line.setId(id);
+        lines.add(line);
+        return line;
+    }
+
+    Section section(Line line, Station upStation, Station downStation, int distance) {
+        return section(line, upStation, downStation, distance, 0);
+    }
+
+    Section section(Line line, Station upStation, Station downStation, int distance, int duration) {
+        Section section = new Section(line, upStation, downStation, distance, duration);
+        ReflectionTestUtils.setField(section, "id", ++sectionId);
+        line.getSections().add(section);
+        return section;
+    }
+
+    SubwayGraph graph(long version) {
+        return SubwayGraph.of(version, new ArrayList<>(stations), new ArrayList<>(lines));
+    }
+
+    static Station createStation(Long id, String name) {
+        Station station = new Station(name);
+        ReflectionTestUtils.setField(station, "id", id);
+        return station;
+    }
+
+    static List<Long> stationIds(SubwayGraph graph, Path path) {
+        return Arrays.stream(path.getStations())
+                .mapToObj(graph::stationId)
+                .collect(Collectors.toList());
+    }
+}
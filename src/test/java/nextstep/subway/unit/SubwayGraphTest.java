@@ -0,0 +1,190 @@
+package nextstep.subway.unit;
+
+import nextstep.subway.domain.Line;
+import nextstep.subway.domain.NetworkChange;
+import nextstep.subway.domain.PathFinder;
+import nextstep.subway.domain.Section;
+import nextstep.subway.domain.Station;
+import nextstep.subway.domain.SubwayGraph;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SubwayGraphTest {
+    private Station 교대역;
+    private Station 강남역;
+    private Station 양재역;
+    private Line 이호선;
+    private Line 신분당선;
+    private Section 강남_양재_구간;
+    private SubwayFixtures fixtures;
+    private SubwayGraph graph;
+
+    @BeforeEach
+    void setUp() {
+        fixtures = new SubwayFixtures();
+        교대역 = fixtures.station(1L, "교대역");
+        강남역 = fixtures.station(2L, "강남역");
+        양재역 = fixtures.station(3L, "양재역");
+
+        이호선 = fixtures.line(1L, "2호선");
+        신분당선 = fixtures.line(2L, "신분당선");
+        fixtures.section(이호선, 교대역, 강남역, 10);
+        강남_양재_구간 = fixtures.section(신분당선, 강남역, 양재역, 10);
+
+        graph = fixtures.graph(2L);
+    }
+
+    @Test
+    void applySectionAdded() {
+        Station 남부터미널역 = fixtures.station(4L, "남부터미널역");
+        Line 삼호선 = fixtures.line(3L, "3호선");
+        Section 교대_남부터미널_구간 = fixtures.section(삼호선, 교대역, 남부터미널역, 2);
+        Section 남부터미널_양재_구간 = fixtures.section(삼호선, 남부터미널역, 양재역, 3);
+
+        SubwayGraph applied = graph.apply(6L, Arrays.asList(
+                NetworkChange.stationAdded(남부터미널역),
+                NetworkChange.lineAdded(삼호선),
+                NetworkChange.sectionAdded(교대_남부터미널_구간),
+                NetworkChange.sectionAdded(남부터미널_양재_구간)));
+
+        assertThat(applied.getVersion()).isEqualTo(6L);
+        assertThat(applied.sectionCount()).isEqualTo(4);
+        assertThat(new PathFinder(applied).findShortestPath(교대역.getId(), 양재역.getId()).getDistance()).isEqualTo(5);
+        assertThat(new PathFinder(graph).findShortestPath(교대역.getId(), 양재역.getId()).getDistance()).isEqualTo(20);
+    }
+
+    @Test
+    void findTransferStations() {
+        int 교대 = graph.findStationIndex(교대역.getId());
+        int 강남 = graph.findStationIndex(강남역.getId());
+
+        assertThat(graph.isTransferStation(강남)).isTrue();
+        assertThat(graph.isTransferStation(교대)).isFalse();
+        assertThat(graph.hasSections(교대)).isTrue();
+
+        SubwayGraph applied = graph.apply(3L, Collections.singletonList(NetworkChange.sectionRemoved(강남_양재_구간)));
+        int 양재 = applied.findStationIndex(양재역.getId());
+        assertThat(applied.isTransferStation(applied.findStationIndex(강남역.getId()))).isFalse();
+        assertThat(applied.hasSections(양재)).isFalse();
+    }
+
+    @Test
+    void applySectionRemoved() {
+        SubwayGraph applied = graph.apply(3L, Collections.singletonList(NetworkChange.sectionRemoved(강남_양재_구간)));
+
+        assertThat(applied.sectionCount()).isEqualTo(1);
+        assertThatThrownBy(() -> new PathFinder(applied).findShortestPath(교대역.getId(), 양재역.getId()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void applyLineRemoved() {
+        SubwayGraph applied = graph.apply(3L, Collections.singletonList(NetworkChange.lineRemoved(신분당선.getId())));
+
+        assertThat(applied.lineCount()).isEqualTo(1);
+        assertThat(applied.sectionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void applyLineUpdated() {
+        신분당선.setSurcharge(900);
+
+        SubwayGraph applied = graph.apply(3L, Collections.singletonList(NetworkChange.lineUpdated(신분당선)));
+
+        assertThat(applied.lineSurcharge(applied.sectionLine(1))).isEqualTo(900);
+    }
+
+    @Test
+    void applySameChangesTwice() {
+        SubwayGraph applied = graph.apply(3L, Arrays.asList(
+                NetworkChange.sectionAdded(강남_양재_구간),
+                NetworkChange.stationAdded(양재역)));
+
+        assertThat(applied.stationCount()).isEqualTo(graph.stationCount());
+        assertThat(applied.sectionCount()).isEqualTo(graph.sectionCount());
+    }
+
+    @Test
+    void applyChangesSameAsFullBuild() {
+        Station 남부터미널역 = fixtures.station(4L, "남부터미널역");
+        Station 매봉역 = fixtures.station(5L, "매봉역");
+        Line 삼호선 = fixtures.line(3L, "3호선");
+        Section 교대_남부터미널_구간 = fixtures.section(삼호선, 교대역, 남부터미널역, 2);
+        Section 남부터미널_양재_구간 = fixtures.section(삼호선, 남부터미널역, 양재역, 3);
+        Section 양재_매봉_구간 = fixtures.section(신분당선, 양재역, 매봉역, 4);
+        신분당선.getSections().remove(강남_양재_구간);
+        이호선.setSurcharge(500);
+
+        SubwayGraph applied = graph.apply(9L, Arrays.asList(
+                NetworkChange.stationAdded(남부터미널역),
+                NetworkChange.stationAdded(매봉역),
+                NetworkChange.lineAdded(삼호선),
+                NetworkChange.sectionAdded(교대_남부터미널_구간),
+                NetworkChange.sectionAdded(남부터미널_양재_구간),
+                NetworkChange.sectionAdded(양재_매봉_구간),
+                NetworkChange.sectionRemoved(강남_양재_구간),
+                NetworkChange.lineUpdated(이호선)));
+
+        SubwayGraph built = fixtures.graph(9L);
+        assertSameGraph(applied, built);
+    }
+
+    @Test
+    void buildLargeGraphInParallel() {
+        SubwayFixtures 순환선_노선도 = new SubwayFixtures();
+        List<Station> stations = new ArrayList<>();
+        Line 순환선 = 순환선_노선도.line(10L, "순환선");
+        for (long id = 1; id <= 5000; id++) {
+            stations.add(순환선_노선도.station(id, id + "역"));
+        }
+        for (int i = 0; i < stations.size(); i++) {
+            순환선_노선도.section(순환선, stations.get(i), stations.get((i + 1) % stations.size()), 1);
+        }
+        Collections.shuffle(stations);
+
+        SubwayGraph large = SubwayGraph.of(1L, stations, Collections.singletonList(순환선));
+
+        for (int station = 0; station < large.stationCount(); station++) {
+            assertThat(large.adjacencyEnd(station) - large.adjacencyStart(station)).isEqualTo(2);
+            assertThat(large.stateEnd(station) - large.stateStart(station)).isEqualTo(1);
+        }
+        assertThat(new PathFinder(large).findShortestPath(1L, 2500L).getDistance()).isEqualTo(2499);
+        assertThat(new PathFinder(large).findShortestPath(1L, 4000L).getDistance()).isEqualTo(1001);
+    }
+
+    private void assertSameGraph(SubwayGraph actual, SubwayGraph expected) {
+        assertThat(actual.stationCount()).isEqualTo(expected.stationCount());
+        assertThat(actual.lineCount()).isEqualTo(expected.lineCount());
+        assertThat(actual.sectionCount()).isEqualTo(expected.sectionCount());
+        assertThat(actual.stateCount()).isEqualTo(expected.stateCount());
+        assertThat(actual.getTotalDistance()).isEqualTo(expected.getTotalDistance());
+        for (int station = 0; station < expected.stationCount(); station++) {
+            assertThat(actual.stationId(station)).isEqualTo(expected.stationId(station));
+            assertThat(actual.adjacencyStart(station)).isEqualTo(expected.adjacencyStart(station));
+            assertThat(actual.stateStart(station)).isEqualTo(expected.stateStart(station));
+        }
+        for (int line = 0; line < expected.lineCount(); line++) {
+            assertThat(actual.lineId(line)).isEqualTo(expected.lineId(line));
+            assertThat(actual.lineSurcharge(line)).isEqualTo(expected.lineSurcharge(line));
+        }
+        for (int section = 0; section < expected.sectionCount(); section++) {
+            assertThat(actual.sectionId(section)).isEqualTo(expected.sectionId(section));
+            assertThat(actual.sectionLine(section)).isEqualTo(expected.sectionLine(section));
+        }
+        for (int adjacency = 0; adjacency < expected.sectionCount() * 2; adjacency++) {
+            assertThat(actual.adjacentSection(adjacency)).isEqualTo(expected.adjacentSection(adjacency));
+            assertThat(actual.adjacentState(adjacency)).isEqualTo(expected.adjacentState(adjacency));
+        }
+        for (int state = 0; state < expected.stateCount(); state++) {
+            assertThat(actual.stateLine(state)).isEqualTo(expected.stateLine(state));
+        }
+    }
+}
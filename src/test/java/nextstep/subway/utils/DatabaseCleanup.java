@@ -1,40 +1,177 @@
 package nextstep.subway.utils;
 
+import nextstep.subway.applicaion.NetworkResetEvent;
+import nextstep.subway.applicaion.NetworkVersionInitializer;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.Entity;
 import javax.persistence.EntityManager;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Id;
 import javax.persistence.PersistenceContext;
+import javax.persistence.metamodel.EntityType;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
+/**
+ * 인수 테스트마다 데이터베이스를 비운다. subway.test.database-cleanup 으로 방식을 고른다.
+ * ALL(기본값)은 모든 테이블을 비우고 식별자를 1 부터 다시 매긴다.
+ * WRITTEN 은 지난 정리 이후 Hibernate 가 행을 쓰거나 지운 엔티티의 테이블만
+ * TRUNCATE TABLE ... RESTART IDENTITY 한 문장씩으로 비운다.
+ * 어느 방식이든 비운 뒤에는 변경 로그 순번 행을 다시 만든다.
+ */
 @Profile("test")
 @Service
 public class DatabaseCleanup implements InitializingBean {
     @PersistenceContext
     private EntityManager entityManager;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private NetworkVersionInitializer networkVersionInitializer;
+
+    @Value("${subway.test.database-cleanup:all}")
+    private Mode mode;
+
     private List<String> tableNames;
+    private List<String> identityTableNames;
+    private Map<Class<?>, String> tableNamesByType;
+    private Set<String> writtenTableNames;
 
     @Override
     public void afterPropertiesSet() {
-        tableNames = entityManager.getMetamodel().getEntities().stream()
+        List<EntityType<?>> entities = entityManager.getMetamodel().getEntities().stream()
                 .filter(entity -> entity.getJavaType().getAnnotation(Entity.class) != null)
-                .map(entity -> entity.getName())
                 .collect(Collectors.toList());
+        tableNames = entities.stream()
+                .map(DatabaseCleanup::tableName)
+                .collect(Collectors.toList());
+        identityTableNames = entities.stream()
+                .filter(DatabaseCleanup::hasGeneratedId)
+                .map(DatabaseCleanup::tableName)
+                .collect(Collectors.toList());
+        if (mode == Mode.WRITTEN) {
+            trackWrittenTables(entities);
+        }
+    }
+
+    private void trackWrittenTables(List<EntityType<?>> entities) {
+        tableNamesByType = new HashMap<>();
+        for (EntityType<?> entity : entities) {
+            tableNamesByType.put(entity.getJavaType(), tableName(entity));
+        }
+        // 애플리케이션이 뜨면서 쓴 행이 있을 수 있으니 처음에는 모든 테이블을 비운다.
+        writtenTableNames = ConcurrentHashMap.newKeySet();
+        writtenTableNames.addAll(tableNames);
+
+        WrittenTableListener listener = new WrittenTableListener();
+        EventListenerRegistry registry = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, listener);
+        registry.appendListeners(EventType.POST_UPDATE, listener);
+        registry.appendListeners(EventType.POST_DELETE, listener);
     }
 
     @Transactional
     public void execute() {
         entityManager.flush();
         entityManager.createNativeQuery("SET REFERENTIAL_INTEGRITY FALSE").executeUpdate();
+        if (mode == Mode.WRITTEN) {
+            truncateWrittenTables();
+        } else {
+            truncateAllTables();
+        }
+        entityManager.createNativeQuery("SET REFERENTIAL_INTEGRITY TRUE").executeUpdate();
+        networkVersionInitializer.initialize();
+        eventPublisher.publishEvent(new NetworkResetEvent());
+    }
+
+    private void truncateAllTables() {
         for (String tableName : tableNames) {
             entityManager.createNativeQuery("TRUNCATE TABLE " + tableName).executeUpdate();
+        }
+        for (String tableName : identityTableNames) {
             entityManager.createNativeQuery("ALTER TABLE " + tableName + " ALTER COLUMN ID RESTART WITH 1").executeUpdate();
         }
-        entityManager.createNativeQuery("SET REFERENTIAL_INTEGRITY TRUE").executeUpdate();
+    }
+
+    private void truncateWrittenTables() {
+        Set<String> written = new HashSet<>(writtenTableNames);
+        writtenTableNames.removeAll(written);
+        for (String tableName : tableNames) {
+            if (!written.contains(tableName)) {
+                continue;
+            }
+            String restartIdentity = identityTableNames.contains(tableName) ? " RESTART IDENTITY" : "";
+            entityManager.createNativeQuery("TRUNCATE TABLE " + tableName + restartIdentity).executeUpdate();
+        }
+    }
+
+    private static String tableName(EntityType<?> entity) {
+        return entity.getName().replaceAll("([a-z])([A-Z])", "$1_$2").toLowerCase();
+    }
+
+    private static boolean hasGeneratedId(EntityType<?> entity) {
+        return Arrays.stream(entity.getJavaType().getDeclaredFields())
+                .anyMatch(field -> field.isAnnotationPresent(Id.class) && field.isAnnotationPresent(GeneratedValue.class));
+    }
+
+    public enum Mode {
+        ALL, WRITTEN
+    }
+
+    private class WrittenTableListener implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+        @Override
+        public void onPostInsert(PostInsertEvent event) {
+            written(event.getPersister());
+        }
+
+        @Override
+        public void onPostUpdate(PostUpdateEvent event) {
+            written(event.getPersister());
+        }
+
+        @Override
+        public void onPostDelete(PostDeleteEvent event) {
+            written(event.getPersister());
+        }
+
+        @Override
+        public boolean requiresPostCommitHanding(EntityPersister persister) {
+            return false;
+        }
+
+        private void written(EntityPersister persister) {
+            String tableName = tableNamesByType.get(persister.getMappedClass());
+            if (tableName != null) {
+                writtenTableNames.add(tableName);
+            }
+        }
     }
 }
\ No newline at end of file